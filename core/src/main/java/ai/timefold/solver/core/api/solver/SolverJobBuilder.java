@@ -117,6 +117,22 @@ public interface SolverJobBuilder<Solution_> {
      */
     SolverJobBuilder<Solution_> withConfigOverride(SolverConfigOverride solverConfigOverride);
 
+    /**
+     * Sets the priority, which decides which planning problems get a solver {@link Thread} first.
+     * When all solver threads are in use, the planning problem with the highest priority is solved next,
+     * and planning problems with the same priority are solved in the order in which they were submitted.
+     * A planning problem also pauses the solving of any planning problem with a lower priority at the end of its current step,
+     * to take over its solver thread,
+     * unless as many planning problems as solver threads are paused already
+     * or the planning problem to pause is still in its construction heuristic.
+     * The paused planning problem keeps its working solution in memory.
+     * The time during which it is paused does not count as its spent time.
+     *
+     * @param priority higher is solved sooner, defaults to 0
+     * @return this
+     */
+    SolverJobBuilder<Solution_> withPriority(int priority);
+
     /**
      * Submits a planning problem to solve and returns immediately. The planning problem is solved on a solver {@link Thread},
      * as soon as one is available.
@@ -55,13 +55,26 @@ public enum ConstructionHeuristicType {
      * Assign the best entity to best value.
      * Repeat until all entities are assigned.
      */
-    ALLOCATE_FROM_POOL;
+    ALLOCATE_FROM_POOL,
+    /**
+     * Only for a planning list variable.
+     * Put all values in a pool.
+     * Assign the value with the largest regret,
+     * the difference between its best insertion and its best insertion into another entity,
+     * to its best position.
+     * Repeat until all values are assigned.
+     * <p>
+     * Remembers the insertions of every value into every entity,
+     * and only evaluates the insertions into the entity changed by the last step again.
+     */
+    REGRET_INSERTION;
 
     public EntitySorterManner getDefaultEntitySorterManner() {
         return switch (this) {
             case FIRST_FIT, WEAKEST_FIT, STRONGEST_FIT -> EntitySorterManner.NONE;
             case FIRST_FIT_DECREASING, WEAKEST_FIT_DECREASING, STRONGEST_FIT_DECREASING -> EntitySorterManner.DESCENDING;
-            case ALLOCATE_ENTITY_FROM_QUEUE, ALLOCATE_TO_VALUE_FROM_QUEUE, CHEAPEST_INSERTION, ALLOCATE_FROM_POOL ->
+            case ALLOCATE_ENTITY_FROM_QUEUE, ALLOCATE_TO_VALUE_FROM_QUEUE, CHEAPEST_INSERTION, ALLOCATE_FROM_POOL,
+                    REGRET_INSERTION ->
                 EntitySorterManner.DESCENDING_IF_AVAILABLE;
         };
     }
@@ -71,7 +84,8 @@ public enum ConstructionHeuristicType {
             case FIRST_FIT, FIRST_FIT_DECREASING -> ValueSorterManner.NONE;
             case WEAKEST_FIT, WEAKEST_FIT_DECREASING -> ValueSorterManner.ASCENDING;
             case STRONGEST_FIT, STRONGEST_FIT_DECREASING -> ValueSorterManner.DESCENDING;
-            case ALLOCATE_ENTITY_FROM_QUEUE, ALLOCATE_TO_VALUE_FROM_QUEUE, CHEAPEST_INSERTION, ALLOCATE_FROM_POOL ->
+            case ALLOCATE_ENTITY_FROM_QUEUE, ALLOCATE_TO_VALUE_FROM_QUEUE, CHEAPEST_INSERTION, ALLOCATE_FROM_POOL,
+                    REGRET_INSERTION ->
                 ValueSorterManner.ASCENDING_IF_AVAILABLE;
         };
     }
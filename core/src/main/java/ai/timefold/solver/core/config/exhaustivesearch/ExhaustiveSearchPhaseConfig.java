@@ -27,6 +27,7 @@ import org.jspecify.annotations.Nullable;
 @XmlType(propOrder = {
         "exhaustiveSearchType",
         "nodeExplorationType",
+        "nodeQueueSizeLimit",
         "entitySorterManner",
         "valueSorterManner",
         "entitySelectorConfig",
@@ -41,6 +42,7 @@ public final class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSea
 
     private ExhaustiveSearchType exhaustiveSearchType = null;
     private NodeExplorationType nodeExplorationType = null;
+    private Integer nodeQueueSizeLimit = null;
     private EntitySorterManner entitySorterManner = null;
     private ValueSorterManner valueSorterManner = null;
 
@@ -77,6 +79,22 @@ public final class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSea
         this.nodeExplorationType = nodeExplorationType;
     }
 
+    /**
+     * Bounds the memory used by {@link ExhaustiveSearchType#BRANCH_AND_BOUND}.
+     * As long as more nodes than this limit wait to be expanded,
+     * the deepest node is expanded first, regardless of the {@link #getNodeExplorationType()}.
+     * The search remains exhaustive.
+     *
+     * @return null if there is no limit
+     */
+    public @Nullable Integer getNodeQueueSizeLimit() {
+        return nodeQueueSizeLimit;
+    }
+
+    public void setNodeQueueSizeLimit(@Nullable Integer nodeQueueSizeLimit) {
+        this.nodeQueueSizeLimit = nodeQueueSizeLimit;
+    }
+
     public @Nullable EntitySorterManner getEntitySorterManner() {
         return entitySorterManner;
     }
@@ -123,6 +141,11 @@ public final class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSea
         return this;
     }
 
+    public @NonNull ExhaustiveSearchPhaseConfig withNodeQueueSizeLimit(@NonNull Integer nodeQueueSizeLimit) {
+        this.setNodeQueueSizeLimit(nodeQueueSizeLimit);
+        return this;
+    }
+
     public @NonNull ExhaustiveSearchPhaseConfig withEntitySorterManner(@NonNull EntitySorterManner entitySorterManner) {
         this.setEntitySorterManner(entitySorterManner);
         return this;
@@ -150,6 +173,8 @@ public final class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSea
                 inheritedConfig.getExhaustiveSearchType());
         nodeExplorationType = ConfigUtils.inheritOverwritableProperty(nodeExplorationType,
                 inheritedConfig.getNodeExplorationType());
+        nodeQueueSizeLimit = ConfigUtils.inheritOverwritableProperty(nodeQueueSizeLimit,
+                inheritedConfig.getNodeQueueSizeLimit());
         entitySorterManner = ConfigUtils.inheritOverwritableProperty(entitySorterManner,
                 inheritedConfig.getEntitySorterManner());
         valueSorterManner = ConfigUtils.inheritOverwritableProperty(valueSorterManner,
@@ -19,7 +19,8 @@ import org.jspecify.annotations.Nullable;
 
 @XmlType(propOrder = {
         "valueSelectorConfig",
-        "destinationSelectorConfig"
+        "destinationSelectorConfig",
+        "dontLookBits"
 })
 public final class ListChangeMoveSelectorConfig
         extends MoveSelectorConfig<ListChangeMoveSelectorConfig>
@@ -33,6 +34,8 @@ public final class ListChangeMoveSelectorConfig
     @XmlElement(name = "destinationSelector")
     private DestinationSelectorConfig destinationSelectorConfig = null;
 
+    private Boolean dontLookBits = null;
+
     public @Nullable ValueSelectorConfig getValueSelectorConfig() {
         return valueSelectorConfig;
     }
@@ -49,6 +52,14 @@ public final class ListChangeMoveSelectorConfig
         this.destinationSelectorConfig = destinationSelectorConfig;
     }
 
+    public @Nullable Boolean getDontLookBits() {
+        return dontLookBits;
+    }
+
+    public void setDontLookBits(@Nullable Boolean dontLookBits) {
+        this.dontLookBits = dontLookBits;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -64,6 +75,11 @@ public final class ListChangeMoveSelectorConfig
         return this;
     }
 
+    public @NonNull ListChangeMoveSelectorConfig withDontLookBits(@NonNull Boolean dontLookBits) {
+        this.setDontLookBits(dontLookBits);
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -74,6 +90,7 @@ public final class ListChangeMoveSelectorConfig
         valueSelectorConfig = ConfigUtils.inheritConfig(valueSelectorConfig, inheritedConfig.getValueSelectorConfig());
         destinationSelectorConfig =
                 ConfigUtils.inheritConfig(destinationSelectorConfig, inheritedConfig.getDestinationSelectorConfig());
+        dontLookBits = ConfigUtils.inheritOverwritableProperty(dontLookBits, inheritedConfig.getDontLookBits());
         return this;
     }
 
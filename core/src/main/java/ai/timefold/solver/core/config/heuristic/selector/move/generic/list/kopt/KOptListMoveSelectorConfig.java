@@ -20,7 +20,8 @@ import org.jspecify.annotations.Nullable;
         "minimumK",
         "maximumK",
         "originSelectorConfig",
-        "valueSelectorConfig"
+        "valueSelectorConfig",
+        "dontLookBits"
 })
 public final class KOptListMoveSelectorConfig
         extends MoveSelectorConfig<KOptListMoveSelectorConfig>
@@ -37,6 +38,8 @@ public final class KOptListMoveSelectorConfig
     @XmlElement(name = "valueSelector")
     private ValueSelectorConfig valueSelectorConfig = null;
 
+    private Boolean dontLookBits = null;
+
     public @Nullable Integer getMinimumK() {
         return minimumK;
     }
@@ -69,6 +72,14 @@ public final class KOptListMoveSelectorConfig
         this.valueSelectorConfig = valueSelectorConfig;
     }
 
+    public @Nullable Boolean getDontLookBits() {
+        return dontLookBits;
+    }
+
+    public void setDontLookBits(@Nullable Boolean dontLookBits) {
+        this.dontLookBits = dontLookBits;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -93,6 +104,11 @@ public final class KOptListMoveSelectorConfig
         return this;
     }
 
+    public @NonNull KOptListMoveSelectorConfig withDontLookBits(@NonNull Boolean dontLookBits) {
+        this.dontLookBits = dontLookBits;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -104,6 +120,7 @@ public final class KOptListMoveSelectorConfig
         this.maximumK = ConfigUtils.inheritOverwritableProperty(maximumK, inheritedConfig.maximumK);
         this.originSelectorConfig = ConfigUtils.inheritConfig(originSelectorConfig, inheritedConfig.originSelectorConfig);
         this.valueSelectorConfig = ConfigUtils.inheritConfig(valueSelectorConfig, inheritedConfig.valueSelectorConfig);
+        this.dontLookBits = ConfigUtils.inheritOverwritableProperty(dontLookBits, inheritedConfig.dontLookBits);
         return this;
     }
 
@@ -38,6 +38,7 @@ import org.jspecify.annotations.Nullable;
         "unimprovedStepCountLimit",
         "scoreCalculationCountLimit",
         "moveCountLimit",
+        "remainingTimeRatio",
         "terminationConfigList"
 })
 public final class TerminationConfig extends AbstractConfig<TerminationConfig> {
@@ -74,6 +75,8 @@ public final class TerminationConfig extends AbstractConfig<TerminationConfig> {
 
     private Long moveCountLimit = null;
 
+    private Double remainingTimeRatio = null;
+
     @XmlElement(name = "termination")
     private List<TerminationConfig> terminationConfigList = null;
 
@@ -246,6 +249,23 @@ public final class TerminationConfig extends AbstractConfig<TerminationConfig> {
         this.moveCountLimit = moveCountLimit;
     }
 
+    /**
+     * Only applies to a phase:
+     * it terminates the phase once it used up this ratio of the time which remained for the solver
+     * when the phase started, so that the phases after it get the rest.
+     * The solver's time is measured by the timeGradient of the solver termination,
+     * such as a spent limit.
+     *
+     * @return null, or a ratio greater than 0.0 and at most 1.0
+     */
+    public @Nullable Double getRemainingTimeRatio() {
+        return remainingTimeRatio;
+    }
+
+    public void setRemainingTimeRatio(@Nullable Double remainingTimeRatio) {
+        this.remainingTimeRatio = remainingTimeRatio;
+    }
+
     public @Nullable List<@NonNull TerminationConfig> getTerminationConfigList() {
         return terminationConfigList;
     }
@@ -370,6 +390,11 @@ public final class TerminationConfig extends AbstractConfig<TerminationConfig> {
         return this;
     }
 
+    public @NonNull TerminationConfig withRemainingTimeRatio(@NonNull Double remainingTimeRatio) {
+        this.remainingTimeRatio = remainingTimeRatio;
+        return this;
+    }
+
     public @NonNull TerminationConfig
             withTerminationConfigList(@NonNull List<@NonNull TerminationConfig> terminationConfigList) {
         this.terminationConfigList = terminationConfigList;
@@ -481,6 +506,7 @@ public final class TerminationConfig extends AbstractConfig<TerminationConfig> {
                 unimprovedStepCountLimit != null ||
                 scoreCalculationCountLimit != null ||
                 moveCountLimit != null ||
+                remainingTimeRatio != null ||
                 isTerminationListConfigured();
     }
 
@@ -521,6 +547,8 @@ public final class TerminationConfig extends AbstractConfig<TerminationConfig> {
                 inheritedConfig.getScoreCalculationCountLimit());
         moveCountLimit = ConfigUtils.inheritOverwritableProperty(moveCountLimit,
                 inheritedConfig.getMoveCountLimit());
+        remainingTimeRatio = ConfigUtils.inheritOverwritableProperty(remainingTimeRatio,
+                inheritedConfig.getRemainingTimeRatio());
         terminationConfigList = ConfigUtils.inheritMergeableListConfig(
                 terminationConfigList, inheritedConfig.getTerminationConfigList());
         return this;
@@ -238,7 +238,9 @@ public interface TimefoldSolverEnterpriseService {
                     ScoreAnalysisFetchPolicy fetchPolicy);
 
     enum Feature {
-        MULTITHREADED_SOLVING("Multi-threaded solving", "remove moveThreadCount from solver configuration"),
+        MULTITHREADED_SOLVING("Multi-threaded solving",
+                "remove moveThreadCount from solver configuration, "
+                        + "and use the SolverManager to solve multiple datasets in parallel"),
         PARTITIONED_SEARCH("Partitioned search", "remove partitioned search phase from solver configuration"),
         NEARBY_SELECTION("Nearby selection", "remove nearby selection from solver configuration"),
         AUTOMATIC_NODE_SHARING("Automatic node sharing", "remove automatic node sharing from solver configuration"),
@@ -86,6 +86,17 @@ public abstract class AbstractBavetNodeNetwork {
                 .filter(node -> !isActivationCheckComplete() || activeNodeSet.contains(node));
     }
 
+    /**
+     * Propagates all pending changes through the network, layer by layer.
+     * <p>
+     * Nodes within a layer are deliberately propagated sequentially, even though they do not depend on each other.
+     * Their downstream graphs are never truly disjoint:
+     * two-input nodes receive from two upstream nodes which may share a layer,
+     * tuples coming from a shared upstream node are written to by all of its children,
+     * and every constraint ends in a scorer that updates the same score inliner.
+     * Settling a layer in parallel would therefore require synchronizing on the hot path,
+     * which would cost more during local search than it would save during the initial settle.
+     */
     public void settle() {
         if (layeredActivePropagators == null) {
             // Remove inactive nodes and settle the layers in one go.
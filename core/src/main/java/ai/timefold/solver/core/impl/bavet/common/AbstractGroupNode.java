@@ -1,7 +1,5 @@
 package ai.timefold.solver.core.impl.bavet.common;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -10,6 +8,7 @@ import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.bavet.common.tuple.Tuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleState;
+import ai.timefold.solver.core.impl.util.LinearProbeHashMap;
 
 public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extends Tuple, GroupKey_, ResultContainer_, Result_>
         extends AbstractSingleInputNode<InTuple_> {
@@ -40,7 +39,7 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
     /**
      * Used when {@link #hasGroupKeyFunction} is true, otherwise {@link #singletonGroup} is used.
      */
-    private final Map<Object, Group<OutTuple_, ResultContainer_>> groupMap;
+    private final LinearProbeHashMap<Object, Group<OutTuple_, ResultContainer_>> groupMap;
     /**
      * Used when {@link #hasGroupKeyFunction} is false, otherwise {@link #groupMap} is used.
      *
@@ -67,7 +66,7 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
          * The number of groups can be very small, and that situation is not unlikely.
          * Therefore, the size of these collections is kept default.
          */
-        this.groupMap = hasGroupKeyFunction ? new HashMap<>() : null;
+        this.groupMap = hasGroupKeyFunction ? new LinearProbeHashMap<>() : null;
         this.propagationQueue = hasCollector ? new DynamicPropagationQueue<>(nextNodesTupleLifecycle,
                 group -> {
                     var outTuple = group.getTuple();
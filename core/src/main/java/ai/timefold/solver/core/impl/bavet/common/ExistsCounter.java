@@ -2,9 +2,18 @@ package ai.timefold.solver.core.impl.bavet.common;
 
 import ai.timefold.solver.core.impl.bavet.common.tuple.Tuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleState;
-
+import ai.timefold.solver.core.impl.util.ListEntry;
+
+/**
+ * It is its own {@link ListEntry},
+ * so that {@link ai.timefold.solver.core.impl.bavet.common.index.LinkedListLeafIndexer} can index it
+ * without allocating an entry for it.
+ *
+ * @param <Tuple_>
+ */
 public final class ExistsCounter<Tuple_ extends Tuple>
-        extends AbstractPropagationMetadataCarrier<Tuple_> {
+        extends AbstractPropagationMetadataCarrier<Tuple_>
+        implements ListEntry<ExistsCounter<Tuple_>> {
 
     final Tuple_ leftTuple;
     TupleState state = TupleState.DEAD; // It's the node's job to mark a new instance as CREATING.
@@ -29,6 +38,11 @@ public final class ExistsCounter<Tuple_ extends Tuple>
         this.state = state;
     }
 
+    @Override
+    public ExistsCounter<Tuple_> element() {
+        return this;
+    }
+
     @Override
     public String toString() {
         return "Counter(" + leftTuple + ")";
@@ -1,7 +1,5 @@
 package ai.timefold.solver.core.impl.bavet.common;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
 import java.util.function.Consumer;
 
 import ai.timefold.solver.core.impl.bavet.common.tuple.Tuple;
@@ -13,23 +11,33 @@ import ai.timefold.solver.core.impl.bavet.common.tuple.TupleState;
  * without any option of moving between the queues.
  * This is the most efficient implementation.
  * It will throw exceptions if a tuple is in the wrong queue, based on its state.
+ * <p>
+ * The queues are backed by {@link TupleQueue}, which only ever grows,
+ * so that in steady state, propagation neither allocates nor resizes.
  *
  * @param <Tuple_>
  */
 public final class StaticPropagationQueue<Tuple_ extends Tuple>
         implements PropagationQueue<Tuple_> {
 
-    private final Deque<Tuple_> retractQueue;
-    private final Deque<Tuple_> updateQueue;
-    private final Deque<Tuple_> insertQueue;
+    private final TupleQueue<Tuple_> retractQueue;
+    private final TupleQueue<Tuple_> updateQueue;
+    private final TupleQueue<Tuple_> insertQueue;
     private final TupleLifecycle<Tuple_> nextNodesTupleLifecycle;
+    // Created once, so that propagation does not create a new method reference every time.
+    private final Consumer<Tuple_> retractPropagator;
+    private final Consumer<Tuple_> updatePropagator;
+    private final Consumer<Tuple_> insertPropagator;
 
     public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle, int size) {
         // Guesstimate that updates are dominant.
-        this.retractQueue = new ArrayDeque<>(size / 20);
-        this.updateQueue = new ArrayDeque<>((size / 20) * 18);
-        this.insertQueue = new ArrayDeque<>(size / 20);
+        this.retractQueue = new TupleQueue<>(size / 20);
+        this.updateQueue = new TupleQueue<>((size / 20) * 18);
+        this.insertQueue = new TupleQueue<>(size / 20);
         this.nextNodesTupleLifecycle = nextNodesTupleLifecycle;
+        this.retractPropagator = this::propagateRetract;
+        this.updatePropagator = dirtyPropagator(nextNodesTupleLifecycle::update);
+        this.insertPropagator = dirtyPropagator(nextNodesTupleLifecycle::insert);
     }
 
     public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle) {
@@ -74,45 +82,44 @@ public final class StaticPropagationQueue<Tuple_ extends Tuple>
 
     @Override
     public void propagateRetracts() {
-        while (!retractQueue.isEmpty()) {
-            var tuple = retractQueue.poll();
-            switch (tuple.getState()) {
-                case DYING -> {
-                    // Change state before propagation, so that the next node can't make decisions on the original state.
-                    tuple.setState(TupleState.DEAD);
-                    nextNodesTupleLifecycle.retract(tuple);
-                }
-                case ABORTING -> tuple.setState(TupleState.DEAD);
+        retractQueue.processAndClear(retractPropagator);
+    }
+
+    private void propagateRetract(Tuple_ tuple) {
+        switch (tuple.getState()) {
+            case DYING -> {
+                // Change state before propagation, so that the next node can't make decisions on the original state.
+                tuple.setState(TupleState.DEAD);
+                nextNodesTupleLifecycle.retract(tuple);
             }
+            case ABORTING -> tuple.setState(TupleState.DEAD);
         }
     }
 
     @Override
     public void propagateUpdates() {
-        processAndClear(updateQueue, nextNodesTupleLifecycle::update);
+        updateQueue.processAndClear(updatePropagator);
     }
 
-    private static <Tuple_ extends Tuple> void processAndClear(Deque<Tuple_> dirtyQueue,
-            Consumer<Tuple_> tupleLifecycle) {
-        while (!dirtyQueue.isEmpty()) {
-            var tuple = dirtyQueue.poll();
+    private static <Tuple_ extends Tuple> Consumer<Tuple_> dirtyPropagator(Consumer<Tuple_> tupleLifecycle) {
+        return tuple -> {
             if (tuple.getState() == TupleState.DEAD) {
                 // DEAD signifies the tuple was both in insert/update and retract queues.
                 // This happens when a tuple was inserted/updated and subsequently retracted, all before propagation.
                 // We can safely ignore the later insert/update,
                 // as by this point the more recent retract has already been processed,
                 // setting the state to DEAD.
-                continue;
+                return;
             }
             // Change state before propagation, so that the next node can't make decisions on the original state.
             tuple.setState(TupleState.OK);
             tupleLifecycle.accept(tuple);
-        }
+        };
     }
 
     @Override
     public void propagateInserts() {
-        processAndClear(insertQueue, nextNodesTupleLifecycle::insert);
+        insertQueue.processAndClear(insertPropagator);
         if (!retractQueue.isEmpty()) {
             throw new IllegalStateException("Impossible state: The retract queue (%s) is not empty."
                     .formatted(retractQueue));
@@ -0,0 +1,62 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import ai.timefold.solver.core.impl.bavet.common.tuple.Tuple;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A FIFO queue of tuples, used by {@link StaticPropagationQueue}.
+ * <p>
+ * Unlike {@link java.util.ArrayDeque}, it never wraps around;
+ * tuples are appended to a plain array, processed front to back and then dropped all at once by resetting the cursor.
+ * The array only ever grows, so that in steady state, no resizing happens at all,
+ * and processing is a linear scan of the array.
+ *
+ * @param <Tuple_>
+ */
+@NullMarked
+final class TupleQueue<Tuple_ extends Tuple> {
+
+    private Object[] elements;
+    private int size = 0;
+
+    TupleQueue(int initialCapacity) {
+        this.elements = new Object[Math.max(initialCapacity, 16)];
+    }
+
+    void add(Tuple_ tuple) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size + (size >> 1));
+        }
+        elements[size++] = tuple;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Passes every tuple to the consumer, in the order in which they were added, and then empties the queue.
+     * Tuples added by the consumer while this is running are processed as well.
+     *
+     * @param tupleConsumer never null
+     */
+    @SuppressWarnings("unchecked")
+    void processAndClear(Consumer<Tuple_> tupleConsumer) {
+        for (var i = 0; i < size; i++) {
+            tupleConsumer.accept((Tuple_) elements[i]);
+        }
+        // Release the references, so that dead tuples can be garbage collected.
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(elements, size));
+    }
+
+}
@@ -1,9 +1,7 @@
 package ai.timefold.solver.core.impl.bavet.common.index;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.SequencedCollection;
@@ -13,6 +11,7 @@ import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
 
 import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.util.LinearProbeHashMap;
 import ai.timefold.solver.core.impl.util.ListEntry;
 
 import org.jspecify.annotations.NullMarked;
@@ -30,7 +29,7 @@ final class ContainedInIndexer<T, Key_, KeyCollection_ extends SequencedCollecti
     /**
      * See {@link EqualIndexer} for explanation of the parameters.
      */
-    private final Map<Key_, Indexer<T>> downstreamIndexerMap = new HashMap<>(16, 0.5f);
+    private final LinearProbeHashMap<Key_, Indexer<T>> downstreamIndexerMap = new LinearProbeHashMap<>();
 
     /**
      * @param keyUnpacker determines if it immediately goes to a {@link LeafIndexer} or if it uses a {@link CompositeKey}.
@@ -2,11 +2,9 @@ package ai.timefold.solver.core.impl.bavet.common.index;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.SequencedCollection;
@@ -19,6 +17,7 @@ import java.util.random.RandomGenerator;
 
 import ai.timefold.solver.core.api.score.stream.Joiners;
 import ai.timefold.solver.core.impl.solver.random.RandomUtils;
+import ai.timefold.solver.core.impl.util.LinearProbeHashMap;
 import ai.timefold.solver.core.impl.util.ListEntry;
 import ai.timefold.solver.core.impl.util.Triple;
 
@@ -37,7 +36,7 @@ final class ContainingAnyOfIndexer<T, Key_, KeyCollection_ extends SequencedColl
     /**
      * See {@link EqualIndexer} for explanation of the parameters.
      */
-    private final Map<Key_, Indexer<T>> downstreamIndexerMap = new HashMap<>(16, 0.5f);
+    private final LinearProbeHashMap<Key_, Indexer<T>> downstreamIndexerMap = new LinearProbeHashMap<>();
     private long unremovedSize = 0;
 
     /**
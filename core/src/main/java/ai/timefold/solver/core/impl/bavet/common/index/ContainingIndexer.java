@@ -2,9 +2,7 @@ package ai.timefold.solver.core.impl.bavet.common.index;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Objects;
 import java.util.SequencedCollection;
 import java.util.function.Consumer;
@@ -14,6 +12,7 @@ import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
 
 import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.util.LinearProbeHashMap;
 import ai.timefold.solver.core.impl.util.ListEntry;
 import ai.timefold.solver.core.impl.util.Triple;
 
@@ -32,7 +31,7 @@ final class ContainingIndexer<T, Key_, KeyCollection_ extends SequencedCollectio
     /**
      * See {@link EqualIndexer} for explanation of the parameters.
      */
-    private final Map<Key_, Indexer<T>> downstreamIndexerMap = new HashMap<>(16, 0.5f);
+    private final LinearProbeHashMap<Key_, Indexer<T>> downstreamIndexerMap = new LinearProbeHashMap<>();
     private long unremovedSize = 0;
 
     /**
@@ -1,15 +1,14 @@
 package ai.timefold.solver.core.impl.bavet.common.index;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
 
+import ai.timefold.solver.core.impl.util.LinearProbeHashMap;
 import ai.timefold.solver.core.impl.util.ListEntry;
 
 import org.jspecify.annotations.NullMarked;
@@ -21,21 +20,25 @@ final class EqualIndexer<T, Key_> implements Indexer<T> {
     private final KeyUnpacker<Key_> keyUnpacker;
     private final Supplier<Indexer<T>> downstreamIndexerSupplier;
     /**
-     * The number 16 is chosen as that is the default initial capacity of a HashMap
-     * and we have no good way of estimating the number of keys up-front.
+     * The map starts at the default capacity of a HashMap (16),
+     * as we have no good way of estimating the number of keys up-front.
      * Any reasonable problem will quickly resize the map, and by a lot.
      * Since the solver is typically a long-running process,
      * this initial overhead is negligible in the grand scheme of things.
      * <p>
-     * 0.5f has been established experimentally as a good load factor for this map,
-     * balancing its memory consumption with lookup speed.
+     * The map keeps its load factor at 0.5,
+     * which has been established experimentally as a good balance between memory consumption and lookup speed.
      * On index-heavy problems, higher load factors were observed to lead to significant lookup slowdowns.
      * Even lower load factors (0.25, 0.1) were tested and yielded further performance improvements,
      * but the memory consumption impact was deemed too high to justify it.
      * This trade-off may change with future versions of the JDK,
      * and should be re-evaluated occasionally.
+     * <p>
+     * Open addressing is used instead of {@link java.util.HashMap},
+     * as this lookup happens for every insert, update and retract of a joined tuple,
+     * and {@link java.util.HashMap} pays for an entry object and the pointer chasing that comes with it.
      */
-    private final Map<Key_, Indexer<T>> downstreamIndexerMap = new HashMap<>(16, 0.5f);
+    private final LinearProbeHashMap<Key_, Indexer<T>> downstreamIndexerMap = new LinearProbeHashMap<>();
 
     /**
      * @param keyUnpacker determines if it immediately goes to a {@link LeafIndexer} or if it uses a {@link CompositeKey}.
@@ -1,10 +1,10 @@
 package ai.timefold.solver.core.impl.bavet.common.index;
 
 import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import ai.timefold.solver.core.impl.util.LinearProbeHashMap;
 import ai.timefold.solver.core.impl.util.ListEntry;
 
 import org.jspecify.annotations.NullMarked;
@@ -37,7 +37,7 @@ import org.jspecify.annotations.Nullable;
 public final class FusedEqualIndex<L, R> {
 
     // See EqualIndexer for the rationale behind the initial capacity and load factor.
-    private final Map<Object, Bucket<L, R>> bucketMap = new HashMap<>(16, 0.5f);
+    private final LinearProbeHashMap<Object, Bucket<L, R>> bucketMap = new LinearProbeHashMap<>();
     private final KeyUnpacker<Object> topEqualKeyUnpacker;
     private final boolean hasSuffix;
     private final Supplier<Indexer<L>> leftDownstreamSupplier;
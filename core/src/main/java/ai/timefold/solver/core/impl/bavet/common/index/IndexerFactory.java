@@ -21,6 +21,7 @@ import ai.timefold.solver.core.impl.bavet.penta.joiner.DefaultPentaJoiner;
 import ai.timefold.solver.core.impl.bavet.quad.joiner.DefaultQuadJoiner;
 import ai.timefold.solver.core.impl.bavet.tri.joiner.DefaultTriJoiner;
 import ai.timefold.solver.core.impl.neighborhood.stream.joiner.DefaultBiNeighborhoodsJoiner;
+import ai.timefold.solver.core.impl.util.ListEntry;
 import ai.timefold.solver.core.impl.util.Pair;
 import ai.timefold.solver.core.impl.util.Quadruple;
 import ai.timefold.solver.core.impl.util.Triple;
@@ -482,7 +483,7 @@ public final class IndexerFactory<Right_> {
         return buildUniKeysExtractor(joiner::getRightMapping);
     }
 
-    public <T> Indexer<T> buildIndexer(boolean isLeftBridge) {
+    public <T extends ListEntry<? super T>> Indexer<T> buildIndexer(boolean isLeftBridge) {
         Supplier<Indexer<T>> backendSupplier =
                 requiresRandomAccess ? RandomAccessLeafIndexer::new : LinkedListLeafIndexer::new;
         if (!hasJoiners()) { // NoneJoiner results in a bare backend (NoneIndexer).
@@ -505,7 +506,8 @@ public final class IndexerFactory<Right_> {
      * {@code buildIndexer(isLeftBridge)} is {@code buildIndexerChain(isLeftBridge, 0, backendSupplier)};
      * {@link #buildFusedEqualIndex()} uses {@code fromLevelInclusive == 1} to build the per-side suffix sub-chains.
      */
-    private <T> Supplier<Indexer<T>> buildIndexerChain(boolean isLeftBridge, int fromLevelInclusive,
+    private <T extends ListEntry<? super T>> Supplier<Indexer<T>> buildIndexerChain(boolean isLeftBridge,
+            int fromLevelInclusive,
             Supplier<Indexer<T>> backendSupplier) {
         // Build children-first, so iterate the levels bottom-up (the leaf is the highest indexPropertyId).
         // A level's joiner type is the type of any joiner it spans; the merged equal prefix (level 0) is EQUAL.
@@ -553,7 +555,7 @@ public final class IndexerFactory<Right_> {
      * @param <L> the left element type (a left tuple, or {@code ExistsCounter} for ifExists)
      * @param <R> the right element type (a right {@code UniTuple})
      */
-    public <L, R> FusedEqualIndex<L, R> buildFusedEqualIndex() {
+    public <L extends ListEntry<? super L>, R extends ListEntry<? super R>> FusedEqualIndex<L, R> buildFusedEqualIndex() {
         var joinerCount = joiner.getJoinerCount();
         // Pure-equal ⇒ the composite key IS the equal key (KeyUnpacker.single());
         // otherwise it is component 0.
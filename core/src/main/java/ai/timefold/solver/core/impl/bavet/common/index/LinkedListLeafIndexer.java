@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.bavet.common.index;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.random.RandomGenerator;
@@ -9,40 +10,88 @@ import ai.timefold.solver.core.impl.util.ElementAwareLinkedList;
 import ai.timefold.solver.core.impl.util.ListEntry;
 
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Super-fast, but doesn't support random access.
+ * <p>
+ * Most buckets only ever hold a handful of elements.
+ * Because every element is its own {@link ListEntry} (such as a tuple), they are therefore first stored inline,
+ * in a small array which is scanned on removal, so that neither the put nor the remove allocate.
+ * Once the inline array is full, further elements go to a linked list,
+ * until the bucket is completely empty again.
+ * Iteration order is always the insertion order.
  *
- * @param <T>
+ * @param <T> the element type, which is its own {@link ListEntry}
  */
 @NullMarked
-public final class LinkedListLeafIndexer<T> implements LeafIndexer<T> {
+public final class LinkedListLeafIndexer<T extends ListEntry<? super T>> implements LeafIndexer<T> {
 
+    /**
+     * Small enough for the linear scan on removal to be cheaper than maintaining a linked list.
+     */
+    static final int INLINE_CAPACITY = 8;
+
+    private @Nullable Object @Nullable [] inlineElements = null;
+    private int inlineSize = 0;
     private final ElementAwareLinkedList<T> tupleList = new ElementAwareLinkedList<>();
 
+    @SuppressWarnings("unchecked")
     @Override
     public ListEntry<T> put(Object compositeKey, T tuple) {
+        // Once the linked list is in use, inline storage would break the insertion order.
+        if (inlineSize < INLINE_CAPACITY && tupleList.size() == 0) {
+            if (inlineElements == null) {
+                inlineElements = new Object[INLINE_CAPACITY];
+            }
+            inlineElements[inlineSize++] = tuple;
+            // Its element() is the tuple itself.
+            return (ListEntry<T>) tuple;
+        }
         return tupleList.add(tuple);
     }
 
     @Override
     public void remove(Object compositeKey, ListEntry<T> entry) {
-        tupleList.remove((ElementAwareLinkedList.Entry<T>) entry);
+        if (entry instanceof ElementAwareLinkedList.Entry<T> linkedEntry) {
+            tupleList.remove(linkedEntry);
+            return;
+        }
+        var elements = inlineElements;
+        for (var i = 0; i < inlineSize; i++) {
+            if (elements[i] == entry) {
+                inlineSize--;
+                System.arraycopy(elements, i + 1, elements, i, inlineSize - i);
+                elements[inlineSize] = null;
+                return;
+            }
+        }
+        throw new IllegalStateException("Impossible state: the entry (%s) is not in the indexer (%s)."
+                .formatted(entry, this));
     }
 
     @Override
     public int size(Object compositeKey) {
-        return tupleList.size();
+        return inlineSize + tupleList.size();
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public void forEach(Object compositeKey, Consumer<T> tupleConsumer) {
-        tupleList.forEach(tupleConsumer);
+        for (var i = 0; i < inlineSize; i++) {
+            tupleConsumer.accept((T) inlineElements[i]);
+        }
+        if (tupleList.size() != 0) {
+            tupleList.forEach(tupleConsumer);
+        }
     }
 
     @Override
     public Iterator<T> iterator(Object queryCompositeKey) {
-        return tupleList.iterator();
+        if (inlineSize == 0) {
+            return tupleList.iterator();
+        }
+        return new InlineFirstIterator();
     }
 
     @Override
@@ -57,12 +106,42 @@ public final class LinkedListLeafIndexer<T> implements LeafIndexer<T> {
 
     @Override
     public boolean isRemovable() {
-        return tupleList.size() == 0;
+        return inlineSize == 0 && tupleList.size() == 0;
     }
 
     @Override
     public String toString() {
-        return "size = " + tupleList.size();
+        return "size = " + (inlineSize + tupleList.size());
+    }
+
+    private final class InlineFirstIterator implements Iterator<T> {
+
+        private int inlineIndex = 0;
+        private @Nullable Iterator<T> tupleListIterator = null;
+
+        @Override
+        public boolean hasNext() {
+            if (inlineIndex < inlineSize) {
+                return true;
+            }
+            if (tupleListIterator == null) {
+                tupleListIterator = tupleList.iterator();
+            }
+            return tupleListIterator.hasNext();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (inlineIndex < inlineSize) {
+                return (T) inlineElements[inlineIndex++];
+            }
+            return tupleListIterator.next();
+        }
+
     }
 
 }
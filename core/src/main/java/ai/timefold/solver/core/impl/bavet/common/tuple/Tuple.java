@@ -3,6 +3,8 @@ package ai.timefold.solver.core.impl.bavet.common.tuple;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
+import ai.timefold.solver.core.impl.bavet.common.index.LinkedListLeafIndexer;
+import ai.timefold.solver.core.impl.util.ListEntry;
 
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
@@ -19,9 +21,13 @@ import org.jspecify.annotations.Nullable;
  * <p>
  * A tuple is modifiable.
  * However, only the origin node of a tuple (the node where the tuple is the out tuple) may modify it.
+ *
+ * <p>
+ * A tuple is its own {@link ListEntry},
+ * so that {@link LinkedListLeafIndexer} can index it without allocating an entry for it.
  */
 @NullMarked
-public sealed interface Tuple permits BiTuple, QuadTuple, TriTuple, UniTuple {
+public sealed interface Tuple extends ListEntry<Tuple> permits BiTuple, QuadTuple, TriTuple, UniTuple {
 
     TupleState getState();
 
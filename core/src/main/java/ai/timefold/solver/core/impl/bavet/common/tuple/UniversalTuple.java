@@ -95,6 +95,11 @@ final class UniversalTuple<A, B, C, D>
         return value;
     }
 
+    @Override
+    public UniversalTuple<A, B, C, D> element() {
+        return this;
+    }
+
     @Override
     public String toString() {
         return switch (cardinality) {
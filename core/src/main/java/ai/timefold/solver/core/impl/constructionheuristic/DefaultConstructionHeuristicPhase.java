@@ -70,15 +70,7 @@ public class DefaultConstructionHeuristicPhase<Solution_>
             // In case of list variable with support for unassigned values, the placer will iterate indefinitely.
             // (When it exhausts all values, it will start over from the beginning.)
             // To prevent that, we need to limit the number of steps to the number of unassigned values.
-            // The use of ValueRangeManager is safe
-            // because it comes from the same score director as the working solution,
-            // and therefore is guaranteed to match.
-            // We compute fresh initialization statistics as opposed to possibly relying on a cached one,
-            // as otherwise Ruin&Recreate doesn't work correctly with its nested CH phase.
-            var scoreDirector = phaseScope.getScoreDirector();
-            var valueRangeManager = scoreDirector.getValueRangeManager();
-            maxStepCount = valueRangeManager.computeInitializationStatistics(scoreDirector.getWorkingSolution(), null)
-                    .notInAnyListValueCount();
+            maxStepCount = countNotInAnyListValues(phaseScope);
         }
 
         TerminationStatus earlyTerminationStatus = null;
@@ -115,6 +107,7 @@ public class DefaultConstructionHeuristicPhase<Solution_>
             doStep(stepScope);
             stepEnded(stepScope);
             phaseScope.setLastCompletedStepScope(stepScope);
+            // Never yields to another solver job while constructing the solution.
             if (hasListVariable && stepScope.getStepIndex() >= maxStepCount) {
                 earlyTerminationStatus = TerminationStatus.regular(phaseScope.getNextStepIndex());
                 break;
@@ -128,6 +121,18 @@ public class DefaultConstructionHeuristicPhase<Solution_>
         phaseEnded(phaseScope);
     }
 
+    protected int countNotInAnyListValues(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        // The use of ValueRangeManager is safe
+        // because it comes from the same score director as the working solution,
+        // and therefore is guaranteed to match.
+        // We compute fresh initialization statistics as opposed to possibly relying on a cached one,
+        // as otherwise Ruin&Recreate doesn't work correctly with its nested CH phase.
+        var scoreDirector = phaseScope.getScoreDirector();
+        var valueRangeManager = scoreDirector.getValueRangeManager();
+        return valueRangeManager.computeInitializationStatistics(scoreDirector.getWorkingSolution(), null)
+                .notInAnyListValueCount();
+    }
+
     protected ConstructionHeuristicPhaseScope<Solution_> buildPhaseScope(SolverScope<Solution_> solverScope, int phaseIndex) {
         return new ConstructionHeuristicPhaseScope<>(solverScope, phaseIndex);
     }
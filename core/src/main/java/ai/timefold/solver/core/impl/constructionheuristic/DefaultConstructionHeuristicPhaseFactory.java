@@ -27,7 +27,9 @@ import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacer;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacerFactory;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.PooledEntityPlacerFactory;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.QueuedEntityPlacerFactory;
+import ai.timefold.solver.core.impl.constructionheuristic.placer.QueuedValuePlacer;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.QueuedValuePlacerFactory;
+import ai.timefold.solver.core.impl.constructionheuristic.placer.RegretInsertionValuePlacer;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
@@ -62,6 +64,9 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 .orElseGet(() -> buildDefaultEntityPlacerConfig(phaseConfigPolicy, constructionHeuristicType_));
         var entityPlacer = EntityPlacerFactory.<Solution_> create(entityPlacerConfig_)
                 .buildEntityPlacer(phaseConfigPolicy);
+        if (constructionHeuristicType_ == ConstructionHeuristicType.REGRET_INSERTION) {
+            entityPlacer = new RegretInsertionValuePlacer<>((QueuedValuePlacer<Solution_>) entityPlacer);
+        }
         return createBuilder(phaseConfigPolicy, solverTermination, phaseIndex, lastInitializingPhase, entityPlacer);
     }
 
@@ -197,6 +202,10 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 }
                 yield new PooledEntityPlacerConfig();
             }
+            case REGRET_INSERTION -> throw new IllegalArgumentException("""
+                    The constructionHeuristicType (%s) requires a planning list variable.
+                    Maybe use the constructionHeuristicType (%s) instead."""
+                    .formatted(constructionHeuristicType, ConstructionHeuristicType.CHEAPEST_INSERTION));
         };
     }
 
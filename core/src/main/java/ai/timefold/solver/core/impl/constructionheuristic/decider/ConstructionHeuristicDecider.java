@@ -113,7 +113,6 @@ public class ConstructionHeuristicDecider<Solution_> {
             if (forager.isQuitEarly()) {
                 break;
             }
-            stepScope.getPhaseScope().getSolverScope().checkYielding();
             if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
                 terminatedPrematurely = true;
                 break;
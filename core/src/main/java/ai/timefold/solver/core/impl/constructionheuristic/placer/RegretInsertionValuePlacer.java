@@ -0,0 +1,340 @@
+package ai.timefold.solver.core.impl.constructionheuristic.placer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
+import ai.timefold.solver.core.impl.domain.variable.ListVariableStateSupply;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.SelectorBasedListAssignMove;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.SolverLifecyclePoint;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.preview.api.move.Move;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Implements {@link ConstructionHeuristicType#REGRET_INSERTION} for a planning list variable.
+ * <p>
+ * Keeps all unassigned values in a pool, and remembers for every value and entity
+ * how much inserting the value at its best position in that entity would change the score.
+ * Every step places the value with the largest regret:
+ * the score difference between its best and its second-best entity.
+ * A value which fits in only one entity has the largest regret of all.
+ * Ties are broken by the best insertion, and then by the order of the value selector.
+ * <p>
+ * Only the entity which received the last placed value is evaluated again for every value in the pool;
+ * the insertions into the other entities are reused from earlier steps,
+ * even though their score change might differ slightly by now.
+ * Therefore, every step evaluates all positions of one entity for every unassigned value,
+ * instead of all positions of all entities for one value, like {@link QueuedValuePlacer} does.
+ * Those evaluations happen before the step, so the phase termination is checked in between,
+ * and the environment mode asserts them like the decider asserts the moves it evaluates.
+ *
+ * @param <Solution_> the solution type, the class with the {@link ai.timefold.solver.core.api.domain.solution.PlanningSolution}
+ *        annotation
+ */
+@NullMarked
+public final class RegretInsertionValuePlacer<Solution_> extends AbstractEntityPlacer<Solution_> {
+
+    private final QueuedValuePlacer<Solution_> queuedValuePlacer;
+    private final ListVariableDescriptor<Solution_> listVariableDescriptor;
+    private final boolean assertMoveScoreFromScratch;
+    private final boolean assertExpectedUndoMoveScore;
+
+    private @Nullable AbstractPhaseScope<Solution_> phaseScope;
+    private @Nullable ListVariableStateSupply<Solution_, Object, Object> listVariableStateSupply;
+
+    public RegretInsertionValuePlacer(QueuedValuePlacer<Solution_> queuedValuePlacer) {
+        super(queuedValuePlacer.factory, queuedValuePlacer.configPolicy);
+        if (!queuedValuePlacer.hasListChangeMoveSelector()) {
+            throw new IllegalArgumentException("The constructionHeuristicType (%s) requires a planning list variable."
+                    .formatted(ConstructionHeuristicType.REGRET_INSERTION));
+        }
+        this.queuedValuePlacer = queuedValuePlacer;
+        this.listVariableDescriptor = (ListVariableDescriptor<Solution_>) queuedValuePlacer.valueSelector
+                .getVariableDescriptor();
+        var environmentMode = configPolicy.getEnvironmentMode();
+        this.assertMoveScoreFromScratch = environmentMode.isFullyAsserted();
+        this.assertExpectedUndoMoveScore = environmentMode.isIntrusivelyAsserted();
+        phaseLifecycleSupport.addEventListener(queuedValuePlacer.valueSelector);
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        this.phaseScope = phaseScope;
+        this.listVariableStateSupply = phaseScope.getScoreDirector().getSupplyManager()
+                .demand(listVariableDescriptor.getStateDemand());
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        this.phaseScope = null;
+        this.listVariableStateSupply = null;
+    }
+
+    @Override
+    public Iterator<Placement<Solution_>> iterator() {
+        return new RegretInsertionPlacingIterator<>();
+    }
+
+    @Override
+    public EntityPlacer<Solution_> rebuildWithFilter(SelectionFilter<Solution_, Object> filter) {
+        return new RegretInsertionValuePlacer<>(
+                (QueuedValuePlacer<Solution_>) queuedValuePlacer.rebuildWithFilter(filter));
+    }
+
+    @Override
+    public EntityPlacer<Solution_> copy() {
+        return new RegretInsertionValuePlacer<>((QueuedValuePlacer<Solution_>) queuedValuePlacer.copy());
+    }
+
+    private final class RegretInsertionPlacingIterator<Score_ extends Score<Score_>>
+            extends UpcomingSelectionIterator<Placement<Solution_>> {
+
+        private @Nullable List<InsertionCosts<Score_>> pool;
+        private final List<Object> entityList = new ArrayList<>();
+        private final Map<Object, Integer> entityIndexMap = new IdentityHashMap<>();
+        private @Nullable InsertionCosts<Score_> lastPlacedCosts;
+        private int evaluatedMoveIndex = 0;
+
+        @Override
+        protected Placement<Solution_> createUpcomingSelection() {
+            var phaseScope_ = Objects.requireNonNull(phaseScope);
+            InnerScoreDirector<Solution_, Score_> scoreDirector = phaseScope_.getScoreDirector();
+            var currentScore = scoreDirector.calculateScore();
+            evaluatedMoveIndex = 0;
+            if (pool == null) {
+                if (entityList.isEmpty()) {
+                    // Only once, because the pool is initialized again if the phase terminated during its initialization.
+                    indexMovableEntities(scoreDirector.getWorkingSolution());
+                }
+                pool = initializePool(scoreDirector, currentScore);
+                if (pool == null) {
+                    return buildTerminatedPlacement();
+                }
+            } else if (lastPlacedCosts != null) {
+                var lastPlacedValue = lastPlacedCosts.value;
+                if (Objects.requireNonNull(listVariableStateSupply).isAssigned(lastPlacedValue)) {
+                    pool.remove(lastPlacedCosts);
+                    var entityIndex = entityIndexMap.get(listVariableStateSupply.getInverseSingleton(lastPlacedValue));
+                    for (var insertionCosts : pool) {
+                        if (phaseScope_.getTermination().isPhaseTerminated(phaseScope_)) {
+                            return buildTerminatedPlacement();
+                        }
+                        evaluate(scoreDirector, currentScore, insertionCosts, entityIndex);
+                    }
+                }
+                lastPlacedCosts = null;
+            }
+            while (!pool.isEmpty()) {
+                var selectedCosts = selectInsertionCosts(pool);
+                var bestEntityIndex = selectedCosts.bestEntityIndex;
+                if (bestEntityIndex < 0) {
+                    if (!listVariableDescriptor.allowsUnassignedValues()) {
+                        throw new IllegalStateException(
+                                """
+                                        The value (%s) cannot be inserted into any movable entity \
+                                        of the planning list variable (%s), which does not allow unassigned values.
+                                        Maybe add the value to the value range of a movable entity, \
+                                        or allow unassigned values on the planning list variable."""
+                                        .formatted(selectedCosts.value,
+                                                listVariableDescriptor.getSimpleEntityAndVariableName()));
+                    }
+                    pool.remove(selectedCosts);
+                    continue;
+                } else if (listVariableDescriptor.allowsUnassignedValues()
+                        && selectedCosts.deltas[bestEntityIndex].compareTo(currentScore.raw().zero()) < 0) {
+                    // Leaving the value unassigned is better than assigning it anywhere.
+                    pool.remove(selectedCosts);
+                    continue;
+                }
+                lastPlacedCosts = selectedCosts;
+                Move<Solution_> move = new SelectorBasedListAssignMove<>(listVariableDescriptor, selectedCosts.value,
+                        entityList.get(bestEntityIndex), selectedCosts.indexes[bestEntityIndex]);
+                return new Placement<>(List.of(move).iterator());
+            }
+            return noUpcomingSelection();
+        }
+
+        /**
+         * Without any moves, the decider picks no step, so the phase finds out that it terminated.
+         */
+        private Placement<Solution_> buildTerminatedPlacement() {
+            return new Placement<>(Collections.emptyIterator());
+        }
+
+        private void indexMovableEntities(Solution_ workingSolution) {
+            var entityDescriptor = listVariableDescriptor.getEntityDescriptor();
+            for (var entity : entityDescriptor.extractEntities(workingSolution)) {
+                if (entityDescriptor.isMovable(workingSolution, entity)) {
+                    entityIndexMap.put(entity, entityList.size());
+                    entityList.add(entity);
+                }
+            }
+        }
+
+        /**
+         * @return null if the phase terminated before all unassigned values were evaluated
+         */
+        private @Nullable List<InsertionCosts<Score_>> initializePool(InnerScoreDirector<Solution_, Score_> scoreDirector,
+                InnerScore<Score_> currentScore) {
+            var phaseScope_ = Objects.requireNonNull(phaseScope);
+            var supply = Objects.requireNonNull(listVariableStateSupply);
+            var result = new ArrayList<InsertionCosts<Score_>>();
+            var valueIterator = queuedValuePlacer.valueSelector.iterator();
+            while (valueIterator.hasNext()) {
+                var value = valueIterator.next();
+                if (supply.isAssigned(value)) {
+                    continue;
+                } else if (phaseScope_.getTermination().isPhaseTerminated(phaseScope_)) {
+                    return null;
+                }
+                var insertionCosts = new InsertionCosts<Score_>(value, entityList.size());
+                for (var entityIndex = 0; entityIndex < entityList.size(); entityIndex++) {
+                    evaluate(scoreDirector, currentScore, insertionCosts, entityIndex);
+                }
+                result.add(insertionCosts);
+            }
+            return result;
+        }
+
+        private void evaluate(InnerScoreDirector<Solution_, Score_> scoreDirector, InnerScore<Score_> currentScore,
+                InsertionCosts<Score_> insertionCosts, int entityIndex) {
+            var value = insertionCosts.value;
+            var entity = entityList.get(entityIndex);
+            Score_ bestDelta = null;
+            var bestIndex = -1;
+            if (listVariableDescriptor.canExtractValueRangeFromSolution()
+                    || scoreDirector.getValueRangeManager()
+                            .getFromEntity(listVariableDescriptor.getValueRangeDescriptor(), entity).contains(value)) {
+                var listSize = listVariableDescriptor.getListSize(entity);
+                for (var index = listVariableDescriptor.getFirstUnpinnedIndex(entity); index <= listSize; index++) {
+                    var move = new SelectorBasedListAssignMove<>(listVariableDescriptor, value, entity, index);
+                    var delta = scoreDirector.executeTemporaryMove(move, assertMoveScoreFromScratch).raw()
+                            .subtract(currentScore.raw());
+                    var phaseScope_ = Objects.requireNonNull(phaseScope);
+                    phaseScope_.addMoveEvaluationCount(move, 1);
+                    if (assertExpectedUndoMoveScore) {
+                        scoreDirector.assertExpectedUndoMoveScore(move, currentScore, SolverLifecyclePoint.of(-1,
+                                phaseScope_.getPhaseIndex(), phaseScope_.getNextStepIndex(), evaluatedMoveIndex));
+                    }
+                    evaluatedMoveIndex++;
+                    if (bestDelta == null || delta.compareTo(bestDelta) > 0) {
+                        bestDelta = delta;
+                        bestIndex = index;
+                    }
+                }
+            }
+            insertionCosts.update(entityIndex, bestDelta, bestIndex);
+        }
+
+        private InsertionCosts<Score_> selectInsertionCosts(List<InsertionCosts<Score_>> pool) {
+            InsertionCosts<Score_> selectedCosts = null;
+            for (var insertionCosts : pool) {
+                if (selectedCosts == null || insertionCosts.compareTo(selectedCosts) > 0) {
+                    selectedCosts = insertionCosts;
+                }
+            }
+            return Objects.requireNonNull(selectedCosts);
+        }
+
+    }
+
+    private static final class InsertionCosts<Score_ extends Score<Score_>> implements Comparable<InsertionCosts<Score_>> {
+
+        private final Object value;
+        // Per entity, the score change of the best insertion and its index, or null and -1 if it cannot be inserted.
+        private final @Nullable Score_[] deltas;
+        private final int[] indexes;
+        private int bestEntityIndex = -1;
+        private int secondBestEntityIndex = -1;
+
+        @SuppressWarnings("unchecked")
+        private InsertionCosts(Object value, int entityCount) {
+            this.value = value;
+            this.deltas = (Score_[]) new Score<?>[entityCount];
+            this.indexes = new int[entityCount];
+            Arrays.fill(indexes, -1);
+        }
+
+        private void update(int entityIndex, @Nullable Score_ delta, int index) {
+            deltas[entityIndex] = delta;
+            indexes[entityIndex] = index;
+            if (entityIndex == bestEntityIndex || entityIndex == secondBestEntityIndex) {
+                findBestEntityIndexes();
+            } else if (isBetter(entityIndex, bestEntityIndex)) {
+                secondBestEntityIndex = bestEntityIndex;
+                bestEntityIndex = entityIndex;
+            } else if (isBetter(entityIndex, secondBestEntityIndex)) {
+                secondBestEntityIndex = entityIndex;
+            }
+        }
+
+        private void findBestEntityIndexes() {
+            bestEntityIndex = -1;
+            secondBestEntityIndex = -1;
+            for (var entityIndex = 0; entityIndex < deltas.length; entityIndex++) {
+                if (isBetter(entityIndex, bestEntityIndex)) {
+                    secondBestEntityIndex = bestEntityIndex;
+                    bestEntityIndex = entityIndex;
+                } else if (isBetter(entityIndex, secondBestEntityIndex)) {
+                    secondBestEntityIndex = entityIndex;
+                }
+            }
+        }
+
+        private boolean isBetter(int entityIndex, int otherEntityIndex) {
+            var delta = deltas[entityIndex];
+            if (delta == null) {
+                return false;
+            }
+            return otherEntityIndex < 0 || delta.compareTo(deltas[otherEntityIndex]) > 0;
+        }
+
+        private @Nullable Score_ calculateRegret() {
+            if (secondBestEntityIndex < 0) {
+                return null;
+            }
+            return deltas[bestEntityIndex].subtract(deltas[secondBestEntityIndex]);
+        }
+
+        @Override
+        public int compareTo(InsertionCosts<Score_> other) {
+            if (bestEntityIndex < 0 || other.bestEntityIndex < 0) {
+                // A value which cannot be inserted anywhere comes first, so that it is dealt with right away.
+                return Boolean.compare(bestEntityIndex < 0, other.bestEntityIndex < 0);
+            }
+            var regret = calculateRegret();
+            var otherRegret = other.calculateRegret();
+            if (regret == null || otherRegret == null) {
+                // A value with only one entity to go to has the largest regret.
+                if (regret != null || otherRegret != null) {
+                    return regret == null ? 1 : -1;
+                }
+            } else {
+                var regretComparison = regret.compareTo(otherRegret);
+                if (regretComparison != 0) {
+                    return regretComparison;
+                }
+            }
+            return deltas[bestEntityIndex].compareTo(other.deltas[other.bestEntityIndex]);
+        }
+
+    }
+
+}
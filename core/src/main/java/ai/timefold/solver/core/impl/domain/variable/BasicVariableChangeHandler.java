@@ -1,5 +1,7 @@
 package ai.timefold.solver.core.impl.domain.variable;
 
+import java.util.List;
+
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
@@ -17,6 +19,13 @@ public interface BasicVariableChangeHandler<Solution_> {
 
     VariableDescriptor<Solution_> getSourceVariableDescriptor();
 
+    /**
+     * @return the variables of which this handler is notified, by default only the {@link #getSourceVariableDescriptor()}
+     */
+    default List<VariableDescriptor<Solution_>> getSourceVariableDescriptorList() {
+        return List.of(getSourceVariableDescriptor());
+    }
+
     /**
      * Called when the entire working solution changes.
      * At this point, implementations should clear state, if any.
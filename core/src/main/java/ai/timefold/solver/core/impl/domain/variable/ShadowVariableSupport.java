@@ -235,9 +235,15 @@ public final class ShadowVariableSupport<Solution_> implements SupplyManager {
     }
 
     private void registerBasicVariableChangeHandler(BasicVariableChangeHandler<Solution_> handler) {
-        var variableDescriptor = handler.getSourceVariableDescriptor();
-        var handlerList = getBasicVariableChangeHandlerList(variableDescriptor);
-        handlerList.add(handler);
+        for (var variableDescriptor : handler.getSourceVariableDescriptorList()) {
+            getBasicVariableChangeHandlerList(variableDescriptor).add(handler);
+        }
+    }
+
+    private void unregisterBasicVariableChangeHandler(BasicVariableChangeHandler<Solution_> handler) {
+        for (var variableDescriptor : handler.getSourceVariableDescriptorList()) {
+            getBasicVariableChangeHandlerList(variableDescriptor).remove(handler);
+        }
     }
 
     private List<BasicVariableChangeHandler<Solution_>>
@@ -246,6 +252,7 @@ public final class ShadowVariableSupport<Solution_> implements SupplyManager {
                 .getOrdinal()];
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <Supply_ extends Supply> boolean cancel(Demand<Supply_> demand) {
         var supplyWithDemandCount = supplyMap.get(demand);
@@ -254,6 +261,10 @@ public final class ShadowVariableSupport<Solution_> implements SupplyManager {
         }
         if (supplyWithDemandCount.demandCount == 1L) {
             supplyMap.remove(demand);
+            if (supplyWithDemandCount.supply instanceof BasicVariableChangeHandler<?> handler) {
+                // Otherwise the handler would keep being notified of every change.
+                unregisterBasicVariableChangeHandler((BasicVariableChangeHandler<Solution_>) handler);
+            }
         } else {
             supplyMap.put(demand,
                     new SupplyWithDemandCount(supplyWithDemandCount.supply, supplyWithDemandCount.demandCount - 1L));
@@ -27,6 +27,8 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
 
     protected final Comparator<ExhaustiveSearchNode<Solution_>> nodeComparator;
     protected final AbstractExhaustiveSearchDecider<Solution_, ? extends Score<?>> decider;
+    protected final Comparator<ExhaustiveSearchNode<Solution_>> depthFirstNodeComparator;
+    protected final int nodeQueueSizeLimit;
 
     protected final boolean assertWorkingSolutionScoreFromScratch;
     protected final boolean assertExpectedWorkingSolutionScore;
@@ -35,6 +37,8 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         super(builder);
         nodeComparator = builder.nodeComparator;
         decider = builder.decider;
+        depthFirstNodeComparator = builder.depthFirstNodeComparator;
+        nodeQueueSizeLimit = builder.nodeQueueSizeLimit;
 
         assertWorkingSolutionScoreFromScratch = builder.assertWorkingSolutionScoreFromScratch;
         assertExpectedWorkingSolutionScore = builder.assertExpectedWorkingSolutionScore;
@@ -59,11 +63,14 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         var expandableNodeQueue = new TreeSet<>(nodeComparator);
         var phaseScope = new ExhaustiveSearchPhaseScope<>(solverScope, phaseIndex);
         phaseScope.setExpandableNodeQueue(expandableNodeQueue);
+        if (depthFirstNodeComparator != null) {
+            phaseScope.setNodeQueueSizeLimit(new TreeSet<>(depthFirstNodeComparator), nodeQueueSizeLimit);
+        }
         phaseStarted(phaseScope);
 
         while (!expandableNodeQueue.isEmpty() && !phaseTermination.isPhaseTerminated(phaseScope)) {
             var stepScope = new ExhaustiveSearchStepScope<>(phaseScope);
-            var node = expandableNodeQueue.removeLast();
+            var node = phaseScope.removeNextExpandableNode();
             stepScope.setExpandingNode(node);
             stepStarted(stepScope);
             decider.restoreWorkingSolution(stepScope, assertWorkingSolutionScoreFromScratch,
@@ -71,6 +78,8 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
             decider.expandNode(stepScope);
             stepEnded(stepScope);
             phaseScope.setLastCompletedStepScope(stepScope);
+            // Yield at the step boundary, before the termination is checked.
+            solverScope.checkYielding(phaseScope);
         }
         phaseEnded(phaseScope);
     }
@@ -138,6 +147,8 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         private final Comparator<ExhaustiveSearchNode<Solution_>> nodeComparator;
         private final AbstractExhaustiveSearchDecider<Solution_, ? extends Score<?>> decider;
 
+        private Comparator<ExhaustiveSearchNode<Solution_>> depthFirstNodeComparator = null;
+        private int nodeQueueSizeLimit = Integer.MAX_VALUE;
         private boolean assertWorkingSolutionScoreFromScratch = false;
         private boolean assertExpectedWorkingSolutionScore = false;
 
@@ -149,6 +160,13 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
             this.decider = decider;
         }
 
+        public Builder<Solution_> withNodeQueueSizeLimit(int nodeQueueSizeLimit,
+                Comparator<ExhaustiveSearchNode<Solution_>> depthFirstNodeComparator) {
+            this.nodeQueueSizeLimit = nodeQueueSizeLimit;
+            this.depthFirstNodeComparator = depthFirstNodeComparator;
+            return this;
+        }
+
         @Override
         public Builder<Solution_> enableAssertions(EnvironmentMode environmentMode) {
             super.enableAssertions(environmentMode);
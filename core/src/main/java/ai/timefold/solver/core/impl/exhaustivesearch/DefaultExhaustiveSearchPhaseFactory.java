@@ -93,9 +93,35 @@ public class DefaultExhaustiveSearchPhaseFactory<Solution_>
             decider = buildDecider(phaseConfigPolicy, entitySelector, bestSolutionRecaller, phaseTermination,
                     scoreBounderEnabled, isListVariable);
         }
-        return new DefaultExhaustiveSearchPhase.Builder<>(phaseIndex, solverConfigPolicy.getLogIndentation(), phaseTermination,
-                nodeExplorationType.buildNodeComparator(scoreBounderEnabled), decider)
-                .enableAssertions(phaseConfigPolicy.getEnvironmentMode()).build();
+        var builder = new DefaultExhaustiveSearchPhase.Builder<>(phaseIndex, solverConfigPolicy.getLogIndentation(),
+                phaseTermination, nodeExplorationType.buildNodeComparator(scoreBounderEnabled), decider);
+        var nodeQueueSizeLimit = getNodeQueueSizeLimit(exhaustiveSearchType, phaseConfig);
+        if (nodeQueueSizeLimit != null && nodeExplorationType != NodeExplorationType.DEPTH_FIRST) {
+            // Depth first exploration keeps the queue small already
+            builder.withNodeQueueSizeLimit(nodeQueueSizeLimit,
+                    NodeExplorationType.DEPTH_FIRST.buildNodeComparator(scoreBounderEnabled));
+        }
+        return builder.enableAssertions(phaseConfigPolicy.getEnvironmentMode()).build();
+    }
+
+    private static Integer getNodeQueueSizeLimit(ExhaustiveSearchType exhaustiveSearchType,
+            ExhaustiveSearchPhaseConfig phaseConfig) {
+        var nodeQueueSizeLimit = phaseConfig.getNodeQueueSizeLimit();
+        if (nodeQueueSizeLimit == null) {
+            return null;
+        }
+        if (nodeQueueSizeLimit < 1) {
+            throw new IllegalArgumentException("The phaseConfig (%s) has a nodeQueueSizeLimit (%d) which is lower than 1."
+                    .formatted(phaseConfig, nodeQueueSizeLimit));
+        }
+        if (!exhaustiveSearchType.isScoreBounderEnabled()) {
+            throw new IllegalArgumentException("""
+                    The phaseConfig (%s) has a nodeQueueSizeLimit (%d), which its exhaustiveSearchType (%s) does not support.
+                    Maybe use the exhaustiveSearchType (%s) instead."""
+                    .formatted(phaseConfig, nodeQueueSizeLimit, exhaustiveSearchType,
+                            ExhaustiveSearchType.BRANCH_AND_BOUND));
+        }
+        return nodeQueueSizeLimit;
     }
 
     private static NodeExplorationType getNodeExplorationType(ExhaustiveSearchType exhaustiveSearchType,
@@ -96,7 +96,6 @@ public abstract sealed class AbstractExhaustiveSearchDecider<Solution_, Score_ e
             moveNode.setMove(move);
             doMove(stepScope, moveNode, isSolutionComplete(moveNode), false);
             phaseScope.addMoveEvaluationCount(move, 1);
-            phaseScope.getSolverScope().checkYielding();
             if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
                 break;
             }
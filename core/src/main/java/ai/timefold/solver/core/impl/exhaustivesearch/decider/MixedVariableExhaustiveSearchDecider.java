@@ -109,7 +109,7 @@ public final class MixedVariableExhaustiveSearchDecider<Solution_, Score_ extend
             var phaseScope = stepScope.getPhaseScope();
             // We need to clear the queue because the starting expanding node is already being evaluated;
             // otherwise, we will solve the list variable twice.
-            phaseScope.getExpandableNodeQueue().clear();
+            phaseScope.clearExpandableNodeQueue();
             initStartNode(phaseScope, null);
             resetLastStep = false;
         }
@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.exhaustivesearch.scope;
 
 import java.util.List;
 import java.util.SortedSet;
+import java.util.function.Predicate;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
@@ -18,6 +19,12 @@ public final class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseSc
 
     private List<ExhaustiveSearchLayer> layerList;
     private SortedSet<ExhaustiveSearchNode<Solution_>> expandableNodeQueue;
+    /**
+     * Contains the same nodes as {@link #expandableNodeQueue}, but ordered depth first.
+     * Null if the {@link #expandableNodeQueue} has no size limit.
+     */
+    private SortedSet<ExhaustiveSearchNode<Solution_>> depthFirstNodeQueue = null;
+    private int nodeQueueSizeLimit = Integer.MAX_VALUE;
     private InnerScore<?> bestPessimisticBound;
 
     private ExhaustiveSearchStepScope<Solution_> lastCompletedStepScope;
@@ -43,6 +50,20 @@ public final class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseSc
         this.expandableNodeQueue = expandableNodeQueue;
     }
 
+    /**
+     * As long as the {@link #getExpandableNodeQueue()} is bigger than the nodeQueueSizeLimit,
+     * {@link #removeNextExpandableNode()} expands the deepest node instead,
+     * which stops the queue from growing further.
+     *
+     * @param depthFirstNodeQueue empty, ordered by a depth first comparator
+     * @param nodeQueueSizeLimit at least 1
+     */
+    public void setNodeQueueSizeLimit(SortedSet<ExhaustiveSearchNode<Solution_>> depthFirstNodeQueue,
+            int nodeQueueSizeLimit) {
+        this.depthFirstNodeQueue = depthFirstNodeQueue;
+        this.nodeQueueSizeLimit = nodeQueueSizeLimit;
+    }
+
     @SuppressWarnings("unchecked")
     public <Score_ extends Score<Score_>> InnerScore<Score_> getBestPessimisticBound() {
         return (InnerScore<Score_>) bestPessimisticBound;
@@ -71,15 +92,44 @@ public final class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseSc
             bestPessimisticBound = pessimisticBound;
             // Prune the queue
             // TODO optimize this because expandableNodeQueue is too long to iterate
-            expandableNodeQueue.removeIf(node -> {
+            Predicate<ExhaustiveSearchNode<Solution_>> prunable = node -> {
                 var optimistic = node.<Score_> getOptimisticBound();
                 return optimistic.compareTo(pessimisticBound) <= 0;
-            });
+            };
+            expandableNodeQueue.removeIf(prunable);
+            if (depthFirstNodeQueue != null) {
+                depthFirstNodeQueue.removeIf(prunable);
+            }
         }
     }
 
     public void addExpandableNode(ExhaustiveSearchNode<Solution_> moveNode) {
         expandableNodeQueue.add(moveNode);
+        if (depthFirstNodeQueue != null) {
+            depthFirstNodeQueue.add(moveNode);
+        }
+    }
+
+    public ExhaustiveSearchNode<Solution_> removeNextExpandableNode() {
+        if (depthFirstNodeQueue == null) {
+            return expandableNodeQueue.removeLast();
+        }
+        if (expandableNodeQueue.size() > nodeQueueSizeLimit) {
+            // Diving to the leaves is the only way to consume nodes without adding more to the queue
+            var node = depthFirstNodeQueue.removeLast();
+            expandableNodeQueue.remove(node);
+            return node;
+        }
+        var node = expandableNodeQueue.removeLast();
+        depthFirstNodeQueue.remove(node);
+        return node;
+    }
+
+    public void clearExpandableNodeQueue() {
+        expandableNodeQueue.clear();
+        if (depthFirstNodeQueue != null) {
+            depthFirstNodeQueue.clear();
+        }
     }
 
 }
@@ -0,0 +1,86 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.iterator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.random.RandomGenerator;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Iterates every index in {@code [0, size)} exactly once, in a pseudo-random order,
+ * without materializing the indexes.
+ * Therefore it takes constant memory, regardless of the size,
+ * whereas shuffling a list takes memory proportional to the size.
+ * <p>
+ * The order is a format-preserving permutation:
+ * a small Feistel network, keyed by the working random, is a bijection on the smallest power of four
+ * which is at least the size.
+ * Indexes which fall outside of the size are encrypted again (cycle walking) until they fall inside of it.
+ * As that power of four is less than 4 times the size, that takes at most 4 encryptions on average.
+ * The order is not cryptographically secure, but it does not need to be;
+ * it only needs to be cheap, reproducible and well mixed.
+ */
+@NullMarked
+public final class RandomPermutationIterator implements PrimitiveIterator.OfLong {
+
+    private static final int ROUND_COUNT = 4;
+
+    private final long size;
+    private final int halfBitCount;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUND_COUNT];
+    private long counter = 0L;
+
+    public RandomPermutationIterator(long size, RandomGenerator workingRandom) {
+        if (size < 0L) {
+            throw new IllegalArgumentException("The size (%d) must not be negative.".formatted(size));
+        }
+        this.size = size;
+        var bitCount = 64 - Long.numberOfLeadingZeros(Math.max(size - 1L, 1L));
+        this.halfBitCount = (bitCount + 1) / 2;
+        this.halfMask = (1L << halfBitCount) - 1L;
+        for (var i = 0; i < ROUND_COUNT; i++) {
+            roundKeys[i] = workingRandom.nextLong();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return counter < size;
+    }
+
+    @Override
+    public long nextLong() {
+        if (counter >= size) {
+            throw new NoSuchElementException();
+        }
+        // The counter is in range, so the cycle walk ends before it returns to the counter.
+        var index = encrypt(counter++);
+        // Unsigned, because the index can take up all 64 bits for a size above Long.MAX_VALUE / 2.
+        while (Long.compareUnsigned(index, size) >= 0) {
+            index = encrypt(index);
+        }
+        return index;
+    }
+
+    private long encrypt(long index) {
+        var left = index >>> halfBitCount;
+        var right = index & halfMask;
+        for (var roundKey : roundKeys) {
+            var newRight = left ^ (mix(right ^ roundKey) & halfMask);
+            left = right;
+            right = newRight;
+        }
+        return (left << halfBitCount) | right;
+    }
+
+    /**
+     * The finalizer of the SplitMix64 generator.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+}
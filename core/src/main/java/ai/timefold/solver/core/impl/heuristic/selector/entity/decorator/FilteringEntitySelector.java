@@ -39,6 +39,10 @@ public final class FilteringEntitySelector<Solution_>
         phaseLifecycleSupport.addEventListener(childEntitySelector);
     }
 
+    public EntitySelector<Solution_> getChildEntitySelector() {
+        return childEntitySelector;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
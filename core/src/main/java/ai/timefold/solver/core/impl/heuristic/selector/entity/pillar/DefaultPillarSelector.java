@@ -19,6 +19,8 @@ import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.CachedLis
 import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.PillarDemand;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.PillarSupply;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 /**
@@ -34,15 +36,20 @@ public final class DefaultPillarSelector<Solution_> extends AbstractSelector<Sol
     private final SubPillarConfigPolicy subpillarConfigPolicy;
     private final PillarDemand<Solution_> pillarDemand;
 
+    private PillarSupply<Solution_> pillarSupply = null;
     private List<List<Object>> cachedBasePillarList = null;
 
+    /**
+     * @param incremental true if the entitySelector selects the same entities in the same order during an entire phase,
+     *        so that the pillars can be kept up to date from the variable changes instead of being rebuilt every step
+     */
     public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
             List<GenuineVariableDescriptor<Solution_>> variableDescriptors, boolean randomSelection,
-            SubPillarConfigPolicy subpillarConfigPolicy) {
+            SubPillarConfigPolicy subpillarConfigPolicy, boolean incremental) {
         this.entitySelector = entitySelector;
         this.randomSelection = randomSelection;
         this.subpillarConfigPolicy = subpillarConfigPolicy;
-        this.pillarDemand = new PillarDemand<>(entitySelector, variableDescriptors, subpillarConfigPolicy);
+        this.pillarDemand = new PillarDemand<>(entitySelector, variableDescriptors, subpillarConfigPolicy, incremental);
         Class<?> entityClass = entitySelector.getEntityDescriptor().getEntityClass();
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptors) {
             if (!entityClass.equals(
@@ -88,25 +95,38 @@ public final class DefaultPillarSelector<Solution_> extends AbstractSelector<Sol
     }
 
     @Override
-    public void constructCache(SolverScope<Solution_> solverScope) {
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
         /*
          * The first pillar selector creates the supply.
          * Other matching pillar selectors, if there are any, reuse the supply.
+         * The supply is kept for the entire phase, so that every step only pays for the entities that changed,
+         * unless the supply is not incremental.
          */
-        cachedBasePillarList = solverScope.getScoreDirector().getSupplyManager()
-                .demand(pillarDemand)
-                .read();
+        pillarSupply = phaseScope.getSolverScope().getScoreDirector().getSupplyManager()
+                .demand(pillarDemand);
+    }
+
+    @Override
+    public void constructCache(SolverScope<Solution_> solverScope) {
+        cachedBasePillarList = pillarSupply.read();
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
+        cachedBasePillarList = null;
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
         /*
          * Cancel the demand of each pillar selector.
          * The final pillar selector's demand cancellation will cause the supply to be removed entirely.
          */
-        solverScope.getScoreDirector().getSupplyManager()
+        phaseScope.getSolverScope().getScoreDirector().getSupplyManager()
                 .cancel(pillarDemand);
-        cachedBasePillarList = null;
+        pillarSupply = null;
     }
 
     // ************************************************************************
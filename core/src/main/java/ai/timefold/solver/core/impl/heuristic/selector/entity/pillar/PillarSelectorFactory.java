@@ -15,6 +15,8 @@ import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
 import ai.timefold.solver.core.impl.heuristic.selector.AbstractSelectorFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelectorFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.FromSolutionEntitySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.decorator.FilteringEntitySelector;
 import ai.timefold.solver.core.impl.solver.ClassInstanceCache;
 
 public class PillarSelectorFactory<Solution_>
@@ -76,7 +78,23 @@ public class PillarSelectorFactory<Solution_>
                         configPolicy.getClassInstanceCache())
                 : SubPillarConfigPolicy.withoutSubpillars();
         return new DefaultPillarSelector<>(entitySelector, variableDescriptors,
-                inheritedSelectionOrder.toRandomSelectionBoolean(), subPillarPolicy);
+                inheritedSelectionOrder.toRandomSelectionBoolean(), subPillarPolicy,
+                isSelectingFixedEntities(entitySelectorConfig, entitySelector));
+    }
+
+    /**
+     * The entities of the working solution only change when it is reset, and so does whether they are pinned.
+     * A filterClass or any other decorator might depend on the planning variables,
+     * so then the pillars need to be rebuilt every step.
+     */
+    private static <Solution_> boolean isSelectingFixedEntities(EntitySelectorConfig entitySelectorConfig,
+            EntitySelector<Solution_> entitySelector) {
+        if (entitySelector instanceof FilteringEntitySelector<Solution_> filteringEntitySelector) {
+            // Without a filterClass, it only filters out the pinned entities.
+            return entitySelectorConfig.getFilterClass() == null
+                    && filteringEntitySelector.getChildEntitySelector() instanceof FromSolutionEntitySelector<Solution_>;
+        }
+        return entitySelector instanceof FromSolutionEntitySelector<Solution_>;
     }
 
     private SubPillarConfigPolicy configureSubPillars(SubPillarType pillarType,
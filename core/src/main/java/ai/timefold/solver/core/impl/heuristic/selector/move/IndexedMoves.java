@@ -0,0 +1,30 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move;
+
+import ai.timefold.solver.core.preview.api.move.Move;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The moves of a {@link MoveSelector} in their original order,
+ * any of which can be created by its index, without creating the moves before it.
+ * Only valid as long as the selection cache during which it was built.
+ *
+ * @see MoveSelector#buildIndexedMoves()
+ */
+@NullMarked
+public interface IndexedMoves<Solution_> {
+
+    /**
+     * @return at least 0
+     */
+    long size();
+
+    /**
+     * @param index {@code 0 <= index < size()}
+     * @return null if the move at that index is not selected, for example because a filter rejects it
+     */
+    @Nullable
+    Move<Solution_> get(long index);
+
+}
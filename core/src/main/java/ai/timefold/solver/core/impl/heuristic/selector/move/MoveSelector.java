@@ -3,6 +3,8 @@ package ai.timefold.solver.core.impl.heuristic.selector.move;
 import ai.timefold.solver.core.impl.heuristic.selector.IterableSelector;
 import ai.timefold.solver.core.preview.api.move.Move;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * Generates {@link Move}s.
  *
@@ -14,4 +16,15 @@ public interface MoveSelector<Solution_> extends IterableSelector<Solution_, Mov
         return false;
     }
 
+    /**
+     * Allows a shuffled selection to iterate a random permutation of the move indexes,
+     * instead of creating all the moves up-front to shuffle them.
+     * Called when the selection cache is constructed, after the child selectors constructed theirs.
+     *
+     * @return null if this selector can not create its moves by index, which is the default
+     */
+    default @Nullable IndexedMoves<Solution_> buildIndexedMoves() {
+        return null;
+    }
+
 }
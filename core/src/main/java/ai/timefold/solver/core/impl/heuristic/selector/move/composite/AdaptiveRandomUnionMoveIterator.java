@@ -0,0 +1,61 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
+
+import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.SelectionIterator;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.preview.api.move.Move;
+
+final class AdaptiveRandomUnionMoveIterator<Solution_> extends SelectionIterator<Move<Solution_>> {
+
+    private final Iterator<Move<Solution_>>[] moveIterators;
+    private final AdaptiveSelectorProbabilities probabilities;
+    private final RandomGenerator workingRandom;
+    private int remainingCount;
+
+    @SuppressWarnings("unchecked")
+    public AdaptiveRandomUnionMoveIterator(List<MoveSelector<Solution_>> childMoveSelectorList,
+            AdaptiveSelectorProbabilities probabilities, RandomGenerator workingRandom) {
+        this.moveIterators = (Iterator<Move<Solution_>>[]) new Iterator<?>[childMoveSelectorList.size()];
+        for (var i = 0; i < moveIterators.length; i++) {
+            var moveIterator = childMoveSelectorList.get(i).iterator();
+            if (moveIterator.hasNext()) {
+                moveIterators[i] = moveIterator;
+                remainingCount++;
+            }
+        }
+        this.probabilities = probabilities;
+        this.workingRandom = workingRandom;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return remainingCount > 0;
+    }
+
+    @Override
+    public Move<Solution_> next() {
+        if (remainingCount == 0) {
+            throw new NoSuchElementException();
+        }
+        var childIndex = probabilities.selectChild(workingRandom);
+        if (moveIterators[childIndex] == null) {
+            // An ending child ran out of moves; fall back to the next child which has not.
+            do {
+                childIndex = (childIndex + 1) % moveIterators.length;
+            } while (moveIterators[childIndex] == null);
+        }
+        var moveIterator = moveIterators[childIndex];
+        var next = moveIterator.next();
+        if (!moveIterator.hasNext()) {
+            moveIterators[childIndex] = null;
+            remainingCount--;
+        }
+        probabilities.recordSelection(childIndex, next);
+        return next;
+    }
+
+}
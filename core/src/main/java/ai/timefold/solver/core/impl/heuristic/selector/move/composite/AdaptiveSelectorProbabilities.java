@@ -0,0 +1,198 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.preview.api.move.Move;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Learns during solving how often a {@link UnionMoveSelector} should select each of its children,
+ * as a multi-armed bandit with one arm per child.
+ * <p>
+ * Every step which improved the last step score rewards the child which selected the step,
+ * in proportion to that improvement, and twice as much if it also improved the best score.
+ * The improvement is normalized by the typical improvement of the first score level that improved,
+ * so that the reward does not depend on the magnitude of the score.
+ * Every move charges the child which selected it with the score calculations spent evaluating it,
+ * so that a child with expensive moves needs to improve the score more to be selected as often.
+ * Both are discounted every step, so that the probabilities keep adapting as the search moves on.
+ * The cost is a score calculation count rather than the time spent evaluating,
+ * so that the same random seed always selects the same moves, as required by the reproducible environment mode.
+ * <p>
+ * Only the last accepted move is remembered, because the forager picks it as the step
+ * unless it has a limit of more than one accepted move.
+ * Otherwise, the step is not rewarded.
+ * <p>
+ * Each child gets a probability proportional to its reward per score calculation,
+ * on top of an equal share of {@link #EXPLORATION_SHARE}, so that no child is starved.
+ * Until every child has selected a move and any child has been rewarded, the probabilities are uniform.
+ */
+@NullMarked
+final class AdaptiveSelectorProbabilities {
+
+    static final double EXPLORATION_SHARE = 0.2;
+    static final double DISCOUNT = 0.99;
+    static final double BEST_SCORE_IMPROVED_FACTOR = 2.0;
+
+    private final int childCount;
+    private final double[] rewards;
+    private final double[] costs;
+    private final double[] rates;
+    private final double[] cumulativeProbabilities;
+    // The typical improvement per score level, to normalize the rewards.
+    private double @Nullable [] improvementScales = null;
+
+    private @Nullable AbstractStepScope<?> stepScope = null;
+    private long lastScoreCalculationCount = 0L;
+    private long lastAcceptedMoveCount = 0L;
+    private int lastSelectedChildIndex = -1;
+    private @Nullable Move<?> lastSelectedMove = null;
+    private int acceptedChildIndex = -1;
+    private @Nullable Move<?> acceptedMove = null;
+
+    AdaptiveSelectorProbabilities(int childCount) {
+        this.childCount = childCount;
+        this.rewards = new double[childCount];
+        this.costs = new double[childCount];
+        this.rates = new double[childCount];
+        this.cumulativeProbabilities = new double[childCount];
+        reset();
+    }
+
+    void reset() {
+        Arrays.fill(rewards, 0.0);
+        Arrays.fill(costs, 0.0);
+        improvementScales = null;
+        clearStep();
+        updateCumulativeProbabilities();
+    }
+
+    int selectChild(RandomGenerator workingRandom) {
+        var randomOffset = workingRandom.nextDouble();
+        for (var i = 0; i < childCount - 1; i++) {
+            if (randomOffset < cumulativeProbabilities[i]) {
+                return i;
+            }
+        }
+        return childCount - 1;
+    }
+
+    void stepStarted(AbstractStepScope<?> stepScope) {
+        this.stepScope = stepScope;
+        lastScoreCalculationCount = stepScope.getPhaseScope().getSolverScope().getScoreCalculationCount();
+        lastAcceptedMoveCount = 0L;
+    }
+
+    void recordSelection(int childIndex, Move<?> move) {
+        // The previously selected move has been evaluated by now.
+        chargeLastSelection();
+        lastSelectedChildIndex = childIndex;
+        lastSelectedMove = move;
+    }
+
+    private void chargeLastSelection() {
+        if (stepScope == null || lastSelectedChildIndex < 0) {
+            return;
+        }
+        var scoreCalculationCount = stepScope.getPhaseScope().getSolverScope().getScoreCalculationCount();
+        // Move threads only report their score calculations at the end of the phase, so a move costs at least 1.
+        costs[lastSelectedChildIndex] += Math.max(1L, scoreCalculationCount - lastScoreCalculationCount);
+        lastScoreCalculationCount = scoreCalculationCount;
+        if (stepScope instanceof LocalSearchStepScope<?> localSearchStepScope) {
+            var acceptedMoveCount = localSearchStepScope.getAcceptedMoveCount();
+            if (acceptedMoveCount != null && acceptedMoveCount > lastAcceptedMoveCount) {
+                lastAcceptedMoveCount = acceptedMoveCount;
+                acceptedChildIndex = lastSelectedChildIndex;
+                acceptedMove = lastSelectedMove;
+            }
+        }
+        lastSelectedChildIndex = -1;
+        lastSelectedMove = null;
+    }
+
+    void stepEnded(AbstractStepScope<?> stepScope) {
+        chargeLastSelection();
+        for (var i = 0; i < childCount; i++) {
+            rewards[i] *= DISCOUNT;
+            costs[i] *= DISCOUNT;
+        }
+        if (acceptedChildIndex >= 0 && stepScope instanceof LocalSearchStepScope<?> localSearchStepScope
+                && localSearchStepScope.getStep() == acceptedMove) {
+            rewards[acceptedChildIndex] += determineReward(localSearchStepScope);
+        }
+        clearStep();
+        updateCumulativeProbabilities();
+    }
+
+    private void clearStep() {
+        stepScope = null;
+        lastSelectedChildIndex = -1;
+        lastSelectedMove = null;
+        acceptedChildIndex = -1;
+        acceptedMove = null;
+    }
+
+    private <Score_ extends Score<Score_>> double determineReward(LocalSearchStepScope<?> stepScope) {
+        InnerScore<Score_> lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        InnerScore<Score_> stepScore = stepScope.getScore();
+        if (lastStepScore == null || stepScore == null || lastStepScore.compareTo(stepScore) >= 0) {
+            return 0.0;
+        }
+        var improvement = normalizeImprovement(stepScore.raw().subtract(lastStepScore.raw()).toLevelDoubles());
+        return stepScope.getBestScoreImproved() ? BEST_SCORE_IMPROVED_FACTOR * improvement : improvement;
+    }
+
+    private double normalizeImprovement(double[] levelDifferences) {
+        if (improvementScales == null) {
+            improvementScales = new double[levelDifferences.length];
+        }
+        for (var i = 0; i < levelDifferences.length; i++) {
+            var difference = levelDifferences[i];
+            if (difference < 0.0) {
+                // A higher level got worse, for example only the number of unassigned values improved.
+                return 0.0;
+            } else if (difference > 0.0) {
+                var scale = improvementScales[i] == 0.0 ? difference
+                        : DISCOUNT * improvementScales[i] + (1.0 - DISCOUNT) * difference;
+                improvementScales[i] = scale;
+                return difference / scale;
+            }
+        }
+        return 0.0;
+    }
+
+    private void updateCumulativeProbabilities() {
+        var rateSum = 0.0;
+        var explored = true;
+        for (var i = 0; i < childCount; i++) {
+            if (costs[i] == 0.0) {
+                explored = false;
+                break;
+            }
+            rates[i] = rewards[i] / costs[i];
+            rateSum += rates[i];
+        }
+        explored &= rateSum > 0.0;
+        var cumulativeProbability = 0.0;
+        for (var i = 0; i < childCount; i++) {
+            var probability = explored
+                    ? EXPLORATION_SHARE / childCount + (1.0 - EXPLORATION_SHARE) * rates[i] / rateSum
+                    : 1.0 / childCount;
+            cumulativeProbability += probability;
+            cumulativeProbabilities[i] = cumulativeProbability;
+        }
+    }
+
+    double getProbability(int childIndex) {
+        return childIndex == 0 ? cumulativeProbabilities[0]
+                : cumulativeProbabilities[childIndex] - cumulativeProbabilities[childIndex - 1];
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.stream.StreamSupport;
 
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.score.director.ScoreDirector;
 import ai.timefold.solver.core.preview.api.move.Move;
@@ -17,12 +18,16 @@ import ai.timefold.solver.core.preview.api.move.Move;
  * For example: a union of {A, B, C} and {X, Y} will result in {A, B, C, X, Y}.
  * <p>
  * Warning: there is no duplicated {@link Move} check, so union of {A, B, C} and {B, D} will result in {A, B, C, B, D}.
+ * <p>
+ * With adaptive selection, the probability of each child is learned during solving,
+ * see {@link AdaptiveSelectorProbabilities}.
  *
  * @see CompositeMoveSelector
  */
 public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution_> {
 
     protected final SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory;
+    private final AdaptiveSelectorProbabilities adaptiveSelectorProbabilities;
 
     protected ScoreDirector<Solution_> scoreDirector;
 
@@ -32,6 +37,12 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
 
     public UnionMoveSelector(List<MoveSelector<Solution_>> childMoveSelectorList, boolean randomSelection,
             SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory) {
+        this(childMoveSelectorList, randomSelection, selectorProbabilityWeightFactory, false);
+    }
+
+    public UnionMoveSelector(List<MoveSelector<Solution_>> childMoveSelectorList, boolean randomSelection,
+            SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory,
+            boolean adaptiveSelection) {
         super(childMoveSelectorList, randomSelection);
         this.selectorProbabilityWeightFactory = selectorProbabilityWeightFactory;
         if (!randomSelection) {
@@ -41,22 +52,54 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
                         + ") cannot have a selectorProbabilityWeightFactory (" + selectorProbabilityWeightFactory
                         + ").");
             }
+            if (adaptiveSelection) {
+                throw new IllegalArgumentException("The selector (" + this
+                        + ") without randomSelection (" + randomSelection
+                        + ") cannot have adaptiveSelection (" + adaptiveSelection + ").");
+            }
+        }
+        if (adaptiveSelection && selectorProbabilityWeightFactory != null) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ") with adaptiveSelection (" + adaptiveSelection
+                    + ") cannot have a selectorProbabilityWeightFactory (" + selectorProbabilityWeightFactory
+                    + ").");
         }
+        this.adaptiveSelectorProbabilities =
+                adaptiveSelection ? new AdaptiveSelectorProbabilities(childMoveSelectorList.size()) : null;
     }
 
     public SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> getSelectorProbabilityWeightFactory() {
         return selectorProbabilityWeightFactory;
     }
 
+    public boolean isAdaptiveSelection() {
+        return adaptiveSelectorProbabilities != null;
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        if (adaptiveSelectorProbabilities != null) {
+            // Different phases may favor different children.
+            adaptiveSelectorProbabilities.reset();
+        }
+    }
+
     @Override
     public void stepStarted(AbstractStepScope<Solution_> stepScope) {
         scoreDirector = stepScope.getScoreDirector();
         super.stepStarted(stepScope);
+        if (adaptiveSelectorProbabilities != null) {
+            adaptiveSelectorProbabilities.stepStarted(stepScope);
+        }
     }
 
     @Override
     public void stepEnded(AbstractStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
+        if (adaptiveSelectorProbabilities != null) {
+            adaptiveSelectorProbabilities.stepEnded(stepScope);
+        }
         scoreDirector = null;
     }
 
@@ -98,6 +141,9 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
                 stream = Stream.concat(stream, toStream(moveSelector));
             }
             return stream.iterator();
+        } else if (adaptiveSelectorProbabilities != null) {
+            return new AdaptiveRandomUnionMoveIterator<>(childMoveSelectorList, adaptiveSelectorProbabilities,
+                    workingRandom);
         } else if (selectorProbabilityWeightFactory == null) {
             return new UniformRandomUnionMoveIterator<>(childMoveSelectorList, workingRandom);
         } else {
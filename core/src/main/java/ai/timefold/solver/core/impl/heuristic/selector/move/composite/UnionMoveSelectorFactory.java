@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
 import ai.timefold.solver.core.config.heuristic.selector.move.MoveSelectorConfig;
@@ -59,7 +60,32 @@ public class UnionMoveSelectorFactory<Solution_>
 
         SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory;
         var selectorProbabilityWeightFactoryClass = config.getSelectorProbabilityWeightFactoryClass();
-        if (selectorProbabilityWeightFactoryClass != null) {
+        var adaptiveSelection = Objects.requireNonNullElse(config.getAdaptiveSelection(), false);
+        if (adaptiveSelection) {
+            if (!randomSelection) {
+                throw new IllegalArgumentException(
+                        "The moveSelectorConfig (%s) with adaptiveSelection (%s) has non-random randomSelection (%s)."
+                                .formatted(config, adaptiveSelection, randomSelection));
+            }
+            if (selectorProbabilityWeightFactoryClass != null) {
+                throw new IllegalArgumentException(
+                        """
+                                The moveSelectorConfig (%s) with adaptiveSelection (%s) has a selectorProbabilityWeightFactoryClass (%s).
+                                Maybe remove the selectorProbabilityWeightFactoryClass, as adaptive selection learns the probabilities."""
+                                .formatted(config, adaptiveSelection, selectorProbabilityWeightFactoryClass));
+            }
+            for (var innerMoveSelectorConfig : moveSelectorConfigList) {
+                if (innerMoveSelectorConfig.getFixedProbabilityWeight() != null) {
+                    throw new IllegalArgumentException(
+                            """
+                                    The moveSelectorConfig (%s) with adaptiveSelection (%s) has a child moveSelectorConfig (%s) with a fixedProbabilityWeight (%s).
+                                    Maybe remove the fixedProbabilityWeight, as adaptive selection learns the probabilities."""
+                                    .formatted(config, adaptiveSelection, innerMoveSelectorConfig,
+                                            innerMoveSelectorConfig.getFixedProbabilityWeight()));
+                }
+            }
+            selectorProbabilityWeightFactory = null;
+        } else if (selectorProbabilityWeightFactoryClass != null) {
             if (!randomSelection) {
                 throw new IllegalArgumentException(
                         "The moveSelectorConfig (%s) with selectorProbabilityWeightFactoryClass (%s) has non-random randomSelection (%s)."
@@ -86,6 +112,7 @@ public class UnionMoveSelectorFactory<Solution_>
         } else {
             selectorProbabilityWeightFactory = null;
         }
-        return new UnionMoveSelector<>(moveSelectorList, randomSelection, selectorProbabilityWeightFactory);
+        return new UnionMoveSelector<>(moveSelectorList, randomSelection, selectorProbabilityWeightFactory,
+                adaptiveSelection);
     }
 }
@@ -5,12 +5,15 @@ import java.util.Iterator;
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import ai.timefold.solver.core.impl.heuristic.selector.move.AbstractMoveSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.move.IndexedMoves;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
 import ai.timefold.solver.core.preview.api.move.Move;
 
+import org.jspecify.annotations.Nullable;
+
 public final class FilteringMoveSelector<Solution_> extends AbstractMoveSelector<Solution_> {
 
     private static final long BAIL_OUT_MULTIPLIER = 10L;
@@ -72,6 +75,12 @@ public final class FilteringMoveSelector<Solution_> extends AbstractMoveSelector
         return new JustInTimeFilteringMoveIterator(childMoveSelector.iterator(), determineBailOutSize(), phaseScope);
     }
 
+    @Override
+    public @Nullable IndexedMoves<Solution_> buildIndexedMoves() {
+        var childIndexedMoves = childMoveSelector.buildIndexedMoves();
+        return childIndexedMoves == null ? null : new FilteringIndexedMoves(childIndexedMoves);
+    }
+
     private long determineBailOutSize() {
         if (!bailOutEnabled) {
             return -1L;
@@ -146,6 +155,28 @@ public final class FilteringMoveSelector<Solution_> extends AbstractMoveSelector
 
     }
 
+    private final class FilteringIndexedMoves implements IndexedMoves<Solution_> {
+
+        private final IndexedMoves<Solution_> childIndexedMoves;
+
+        private FilteringIndexedMoves(IndexedMoves<Solution_> childIndexedMoves) {
+            this.childIndexedMoves = childIndexedMoves;
+        }
+
+        @Override
+        public long size() {
+            return childIndexedMoves.size();
+        }
+
+        @Override
+        public @Nullable Move<Solution_> get(long index) {
+            var move = childIndexedMoves.get(index);
+            // Filter just in time, like the iterator does.
+            return move == null || !accept(scoreDirector, move) ? null : move;
+        }
+
+    }
+
     private boolean accept(ScoreDirector<Solution_> scoreDirector, Move<Solution_> move) {
         if (filter != null && !filter.accept(scoreDirector, move)) {
             logger.trace("        Move ({}) filtered out by a selection filter ({}).", move, filter);
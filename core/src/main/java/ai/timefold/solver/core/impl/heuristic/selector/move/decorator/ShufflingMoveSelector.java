@@ -4,11 +4,31 @@ import java.util.Collections;
 import java.util.Iterator;
 
 import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.FairSelectorProbabilityWeightFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.RandomPermutationIterator;
+import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import ai.timefold.solver.core.impl.heuristic.selector.move.IndexedMoves;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.preview.api.move.Move;
 
+/**
+ * If the child {@link MoveSelector#buildIndexedMoves() indexes its moves},
+ * this iterates a {@link RandomPermutationIterator random permutation} of the move indexes
+ * and only creates each move when it is selected.
+ * Otherwise it caches all the moves of the child and shuffles them,
+ * which takes memory proportional to the number of moves.
+ * <p>
+ * With indexed moves, a {@link FilteringMoveSelector} child filters each move when it is selected,
+ * so {@link #getSize()} includes the moves which the filter rejects,
+ * like the size of a filtering selection which is not cached.
+ * Without indexed moves, the filter rejects those moves before they are cached, so the size excludes them.
+ * This matters to a size-based probability weight, such as the {@link FairSelectorProbabilityWeightFactory}.
+ */
 public class ShufflingMoveSelector<Solution_> extends AbstractCachingMoveSelector<Solution_> {
 
+    private IndexedMoves<Solution_> indexedMoves = null;
+
     public ShufflingMoveSelector(MoveSelector<Solution_> childMoveSelector, SelectionCacheType cacheType) {
         super(childMoveSelector, cacheType);
     }
@@ -17,13 +37,40 @@ public class ShufflingMoveSelector<Solution_> extends AbstractCachingMoveSelecto
     // Worker methods
     // ************************************************************************
 
+    @Override
+    public void constructCache(SolverScope<Solution_> solverScope) {
+        indexedMoves = childMoveSelector.buildIndexedMoves();
+        if (indexedMoves == null) {
+            super.constructCache(solverScope);
+        } else {
+            logger.trace("    Indexed moves: size ({}), moveSelector ({}).", indexedMoves.size(), this);
+        }
+    }
+
+    @Override
+    public void disposeCache(SolverScope<Solution_> solverScope) {
+        super.disposeCache(solverScope);
+        indexedMoves = null;
+    }
+
     @Override
     public boolean isNeverEnding() {
         return false;
     }
 
+    /**
+     * @return with indexed moves, including the moves which a {@link FilteringMoveSelector} child rejects
+     */
+    @Override
+    public long getSize() {
+        return indexedMoves == null ? super.getSize() : indexedMoves.size();
+    }
+
     @Override
     public Iterator<Move<Solution_>> iterator() {
+        if (indexedMoves != null) {
+            return new IndexedMoveIterator(indexedMoves, new RandomPermutationIterator(indexedMoves.size(), workingRandom));
+        }
         Collections.shuffle(cachedMoveList, workingRandom);
         logger.trace("    Shuffled cachedMoveList with size ({}) in moveSelector({}).",
                 cachedMoveList.size(), this);
@@ -35,4 +82,27 @@ public class ShufflingMoveSelector<Solution_> extends AbstractCachingMoveSelecto
         return "Shuffling(" + childMoveSelector + ")";
     }
 
+    private final class IndexedMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private final IndexedMoves<Solution_> indexedMoves;
+        private final RandomPermutationIterator indexIterator;
+
+        private IndexedMoveIterator(IndexedMoves<Solution_> indexedMoves, RandomPermutationIterator indexIterator) {
+            this.indexedMoves = indexedMoves;
+            this.indexIterator = indexIterator;
+        }
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            while (indexIterator.hasNext()) {
+                var move = indexedMoves.get(indexIterator.nextLong());
+                if (move != null) {
+                    return move;
+                }
+            }
+            return noUpcomingSelection();
+        }
+
+    }
+
 }
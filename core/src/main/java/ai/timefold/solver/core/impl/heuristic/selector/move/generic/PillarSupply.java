@@ -0,0 +1,272 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
+import ai.timefold.solver.core.impl.domain.variable.BasicVariableChangeHandler;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.supply.Supply;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.util.LinkedIdentityHashSet;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Groups the entities of an {@link EntitySelector} into pillars of entities which have the same planning values.
+ * <p>
+ * The pillars are built from scratch on the first {@link #read()} after the working solution was (re)set.
+ * After that, if incremental, this supply is notified of every variable change
+ * and the next {@link #read()} only moves the changed entities to their new pillar.
+ * That requires the {@link EntitySelector} to select the same entities in the same order during the entire phase,
+ * which is not the case if it filters or sorts entities based on their planning variables.
+ * Otherwise, every {@link #read()} builds the pillars from scratch.
+ * <p>
+ * The pillars come in the same order as if they were built from scratch:
+ * every pillar has its entities in the order of the {@link EntitySelector},
+ * or of the {@link SubPillarConfigPolicy#getEntityComparator()} if there is one,
+ * and the pillars are ordered by their first entity.
+ * A pillar which changes is replaced by a new list, so a move which holds on to a pillar never sees it change.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+@NullMarked
+public final class PillarSupply<Solution_> implements BasicVariableChangeHandler<Solution_>, Supply {
+
+    private final EntitySelector<Solution_> entitySelector;
+    private final List<GenuineVariableDescriptor<Solution_>> variableDescriptors;
+    private final SubPillarConfigPolicy subpillarConfigPolicy;
+    private final boolean incremental;
+
+    private final Map<Object, EntityState> entityStateMap = new IdentityHashMap<>();
+    private final Map<List<Object>, Pillar> valueStateToPillarMap = new HashMap<>();
+    private final Set<Object> changedEntitySet = new LinkedIdentityHashSet<>();
+    /**
+     * Only contains the pillars which are at least as big as the minimumSubPillarSize, ordered by their first entity.
+     */
+    private final List<List<Object>> pillarList = new ArrayList<>();
+    private boolean rebuildRequired = true;
+
+    PillarSupply(EntitySelector<Solution_> entitySelector, List<GenuineVariableDescriptor<Solution_>> variableDescriptors,
+            SubPillarConfigPolicy subpillarConfigPolicy, boolean incremental) {
+        this.entitySelector = entitySelector;
+        this.variableDescriptors = variableDescriptors;
+        this.subpillarConfigPolicy = subpillarConfigPolicy;
+        this.incremental = incremental;
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return variableDescriptors.get(0);
+    }
+
+    @Override
+    public List<VariableDescriptor<Solution_>> getSourceVariableDescriptorList() {
+        return Collections.unmodifiableList(variableDescriptors);
+    }
+
+    @Override
+    public void resetWorkingSolution(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        rebuildRequired = true;
+    }
+
+    @Override
+    public void beforeVariableChanged(InnerScoreDirector<Solution_, ?> scoreDirector, Object entity) {
+        // No need to do anything.
+    }
+
+    @Override
+    public void afterVariableChanged(InnerScoreDirector<Solution_, ?> scoreDirector, Object entity) {
+        // Most of these changes are undone before the next read, so they are only processed then.
+        if (incremental && !rebuildRequired && entityStateMap.containsKey(entity)) {
+            changedEntitySet.add(entity);
+        }
+    }
+
+    /**
+     * @return the pillars which are at least as big as the minimumSubPillarSize;
+     *         changes on the next call, which the caller must not modify
+     */
+    public List<List<Object>> read() {
+        if (rebuildRequired || !incremental) {
+            rebuild();
+            rebuildRequired = false;
+        } else if (!changedEntitySet.isEmpty()) {
+            update();
+        }
+        changedEntitySet.clear();
+        return pillarList;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rebuild() {
+        entityStateMap.clear();
+        valueStateToPillarMap.clear();
+        pillarList.clear();
+        var entitySize = entitySelector.getSize();
+        if (entitySize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The selector (" + this + ") has an entitySelector ("
+                    + entitySelector + ") with entitySize (" + entitySize
+                    + ") which is higher than Integer.MAX_VALUE.");
+        }
+        var entityList = new ArrayList<>((int) entitySize);
+        entitySelector.iterator().forEachRemaining(entityList::add);
+        var comparator = (Comparator<Object>) subpillarConfigPolicy.getEntityComparator();
+        if (comparator != null) {
+            // This results in all the pillars being sorted without having to sort them individually later.
+            entityList.sort(comparator);
+        }
+        // In the order of their first entity, so if sorted, the pillars will be sequential.
+        var orderedPillarList = new ArrayList<Pillar>();
+        for (var ordinal = 0; ordinal < entityList.size(); ordinal++) {
+            var entity = entityList.get(ordinal);
+            var valueState = getValueState(entity);
+            var pillar = valueStateToPillarMap.computeIfAbsent(valueState, key -> {
+                var newPillar = new Pillar(key);
+                orderedPillarList.add(newPillar);
+                return newPillar;
+            });
+            pillar.entityList.add(entity);
+            entityStateMap.put(entity, new EntityState(ordinal, pillar));
+        }
+        for (var pillar : orderedPillarList) {
+            if (isSelectable(pillar.entityList)) {
+                pillarList.add(pillar.entityList);
+            }
+        }
+    }
+
+    private void update() {
+        var changedPillarMap = new LinkedHashMap<Pillar, PillarChange>();
+        for (var entity : changedEntitySet) {
+            var entityState = entityStateMap.get(entity);
+            var valueState = getValueState(entity);
+            var oldPillar = entityState.pillar;
+            if (oldPillar.valueState.equals(valueState)) {
+                // The entity changed back to its old values.
+                continue;
+            }
+            var newPillar = valueStateToPillarMap.computeIfAbsent(valueState, Pillar::new);
+            changedPillarMap.computeIfAbsent(oldPillar, PillarChange::new).removedEntitySet.add(entity);
+            changedPillarMap.computeIfAbsent(newPillar, PillarChange::new).addedEntityList.add(entity);
+            entityState.pillar = newPillar;
+        }
+        // Remove all old versions before inserting any new version, so the binary search only sees unchanged pillars.
+        for (var pillar : changedPillarMap.keySet()) {
+            if (isSelectable(pillar.entityList)) {
+                pillarList.remove(findPillarIndex(getOrdinal(pillar.entityList.getFirst())));
+            }
+        }
+        for (var pillarChange : changedPillarMap.values()) {
+            var pillar = pillarChange.pillar;
+            var entityList = new ArrayList<>(pillar.entityList.size() + pillarChange.addedEntityList.size());
+            for (var entity : pillar.entityList) {
+                if (!pillarChange.removedEntitySet.contains(entity)) {
+                    entityList.add(entity);
+                }
+            }
+            entityList.addAll(pillarChange.addedEntityList);
+            entityList.sort(Comparator.comparingInt(this::getOrdinal));
+            // Never modify the old list, because moves of an earlier step might still hold on to it.
+            pillar.entityList = entityList;
+            if (entityList.isEmpty()) {
+                valueStateToPillarMap.remove(pillar.valueState);
+            } else if (isSelectable(entityList)) {
+                // Not found, so the index is encoded as (-insertionIndex - 1).
+                pillarList.add(-findPillarIndex(getOrdinal(entityList.getFirst())) - 1, entityList);
+            }
+        }
+    }
+
+    private List<Object> getValueState(Object entity) {
+        var variableCount = variableDescriptors.size();
+        if (variableCount == 1) {
+            return Collections.singletonList(variableDescriptors.get(0).getValue(entity));
+        }
+        var valueState = new ArrayList<>(variableCount);
+        for (var variableDescriptor : variableDescriptors) {
+            valueState.add(variableDescriptor.getValue(entity));
+        }
+        return valueState;
+    }
+
+    private boolean isSelectable(List<Object> entityList) {
+        // Exclude pillars of size lower than the minimumSubPillarSize, as we shouldn't select those.
+        return !entityList.isEmpty() && entityList.size() >= subpillarConfigPolicy.getMinimumSubPillarSize();
+    }
+
+    private int getOrdinal(Object entity) {
+        return entityStateMap.get(entity).ordinal;
+    }
+
+    /**
+     * @return the index of the pillar starting with the ordinal if it exists, else (-insertionIndex - 1)
+     */
+    private int findPillarIndex(int firstOrdinal) {
+        var low = 0;
+        var high = pillarList.size() - 1;
+        while (low <= high) {
+            var middle = (low + high) >>> 1;
+            var middleOrdinal = getOrdinal(pillarList.get(middle).getFirst());
+            if (middleOrdinal < firstOrdinal) {
+                low = middle + 1;
+            } else if (middleOrdinal > firstOrdinal) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entitySelector + ")";
+    }
+
+    private static final class Pillar {
+
+        private final List<Object> valueState;
+        private List<Object> entityList = new ArrayList<>();
+
+        private Pillar(List<Object> valueState) {
+            this.valueState = valueState;
+        }
+
+    }
+
+    private static final class EntityState {
+
+        private final int ordinal;
+        private Pillar pillar;
+
+        private EntityState(int ordinal, Pillar pillar) {
+            this.ordinal = ordinal;
+            this.pillar = pillar;
+        }
+
+    }
+
+    private static final class PillarChange {
+
+        private final Pillar pillar;
+        private final Set<Object> removedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final List<Object> addedEntityList = new ArrayList<>();
+
+        private PillarChange(Pillar pillar) {
+            this.pillar = pillar;
+        }
+
+    }
+
+}
@@ -36,6 +36,15 @@ public final class RuinRecreateConstructionHeuristicPhase<Solution_>
         return new RuinRecreateConstructionHeuristicPhaseScope<>(solverScope, phaseIndex);
     }
 
+    @Override
+    protected int countNotInAnyListValues(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        // This phase runs for every move, so it must not visit the entire working solution to count these.
+        // The list variable state is already up to date, because the move updated the shadow variables after the ruin.
+        var scoreDirector = phaseScope.getScoreDirector();
+        return scoreDirector.getListVariableStateSupply(scoreDirector.getSolutionDescriptor().getListVariableDescriptor())
+                .getUnassignedCount();
+    }
+
     @Override
     protected boolean isNested() {
         return true;
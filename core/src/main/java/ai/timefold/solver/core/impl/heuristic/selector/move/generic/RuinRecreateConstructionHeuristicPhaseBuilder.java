@@ -16,6 +16,7 @@ import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
 import ai.timefold.solver.core.impl.solver.termination.SolverTermination;
 import ai.timefold.solver.core.impl.solver.termination.TerminationFactory;
+import ai.timefold.solver.core.impl.util.CollectionUtils;
 
 public final class RuinRecreateConstructionHeuristicPhaseBuilder<Solution_>
         extends DefaultConstructionHeuristicPhaseBuilder<Solution_> {
@@ -49,6 +50,8 @@ public final class RuinRecreateConstructionHeuristicPhaseBuilder<Solution_>
 
     Set<Object> elementsToRuin;
     List<Object> elementsToRecreate;
+    private final Set<Object> elementToRecreateSet = CollectionUtils.newIdentityHashSet(0);
+    private EntityPlacer<Solution_> filteredEntityPlacer = null;
     private boolean multithreaded = false;
 
     RuinRecreateConstructionHeuristicPhaseBuilder(HeuristicConfigPolicy<Solution_> configPolicy,
@@ -80,6 +83,10 @@ public final class RuinRecreateConstructionHeuristicPhaseBuilder<Solution_>
 
     public RuinRecreateConstructionHeuristicPhaseBuilder<Solution_> withElementsToRecreate(List<Object> elements) {
         this.elementsToRecreate = elements;
+        elementToRecreateSet.clear();
+        if (elements != null) {
+            elementToRecreateSet.addAll(elements);
+        }
         return this;
     }
 
@@ -94,14 +101,13 @@ public final class RuinRecreateConstructionHeuristicPhaseBuilder<Solution_>
         if (elementsToRecreate == null || elementsToRecreate.isEmpty()) {
             return placer;
         }
-        return placer.rebuildWithFilter((scoreDirector, selection) -> {
-            for (var element : elementsToRecreate) {
-                if (selection == element) {
-                    return true;
-                }
-            }
-            return false;
-        });
+        if (filteredEntityPlacer == null) {
+            // The filter reads the elements of the latest move,
+            // so that every move reuses the same placer and selectors instead of rebuilding them.
+            filteredEntityPlacer =
+                    placer.rebuildWithFilter((scoreDirector, selection) -> elementToRecreateSet.contains(selection));
+        }
+        return filteredEntityPlacer;
     }
 
     @Override
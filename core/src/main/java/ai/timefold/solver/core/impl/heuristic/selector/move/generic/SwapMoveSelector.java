@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -9,8 +10,11 @@ import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDe
 import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.AbstractOriginalSwapIterator;
 import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.AbstractRandomSwapIterator;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.move.IndexedMoves;
 import ai.timefold.solver.core.preview.api.move.Move;
 
+import org.jspecify.annotations.Nullable;
+
 public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_> {
 
     protected final EntitySelector<Solution_> leftEntitySelector;
@@ -90,6 +94,77 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
         }
     }
 
+    @Override
+    public @Nullable IndexedMoves<Solution_> buildIndexedMoves() {
+        if (isNeverEnding()) {
+            return null;
+        }
+        // Only the entities are copied; the moves are created on demand.
+        var leftEntityList = new ArrayList<>();
+        leftEntitySelector.listIterator().forEachRemaining(leftEntityList::add);
+        if (leftEntitySelector == rightEntitySelector) {
+            return new SwapIndexedMoves(leftEntityList, leftEntityList, true);
+        }
+        var rightEntityList = new ArrayList<>();
+        rightEntitySelector.listIterator().forEachRemaining(rightEntityList::add);
+        return new SwapIndexedMoves(leftEntityList, rightEntityList, false);
+    }
+
+    /**
+     * Indexes the moves in the same order as {@link AbstractOriginalSwapIterator}.
+     */
+    private final class SwapIndexedMoves implements IndexedMoves<Solution_> {
+
+        private final List<Object> leftEntityList;
+        private final List<Object> rightEntityList;
+        private final boolean leftEqualsRight;
+        private final long size;
+
+        private SwapIndexedMoves(List<Object> leftEntityList, List<Object> rightEntityList, boolean leftEqualsRight) {
+            this.leftEntityList = leftEntityList;
+            this.rightEntityList = rightEntityList;
+            this.leftEqualsRight = leftEqualsRight;
+            long leftSize = leftEntityList.size();
+            this.size = leftEqualsRight ? leftSize * (leftSize - 1L) / 2L : leftSize * rightEntityList.size();
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public Move<Solution_> get(long index) {
+            if (!leftEqualsRight) {
+                var rightSize = rightEntityList.size();
+                return new SelectorBasedSwapMove<>(variableDescriptorList, leftEntityList.get((int) (index / rightSize)),
+                        rightEntityList.get((int) (index % rightSize)));
+            }
+            // The index enumerates A-B, A-C, B-C; find the row of the left entity, then the column of the right one.
+            long entityCount = leftEntityList.size();
+            var leftIndex = (long) ((2L * entityCount - 1L
+                    - Math.sqrt((2.0 * entityCount - 1.0) * (2.0 * entityCount - 1.0) - 8.0 * index)) / 2.0);
+            // Correct the floating point rounding.
+            while (leftIndex > 0L && getRowOffset(entityCount, leftIndex) > index) {
+                leftIndex--;
+            }
+            while (getRowOffset(entityCount, leftIndex + 1L) <= index) {
+                leftIndex++;
+            }
+            var rightIndex = index - getRowOffset(entityCount, leftIndex) + leftIndex + 1L;
+            return new SelectorBasedSwapMove<>(variableDescriptorList, leftEntityList.get((int) leftIndex),
+                    leftEntityList.get((int) rightIndex));
+        }
+
+        /**
+         * @return the index of the first move with the given left entity
+         */
+        private static long getRowOffset(long entityCount, long leftIndex) {
+            return leftIndex * entityCount - leftIndex * (leftIndex + 1L) / 2L;
+        }
+
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "(" + leftEntitySelector + ", " + rightEntitySelector + ")";
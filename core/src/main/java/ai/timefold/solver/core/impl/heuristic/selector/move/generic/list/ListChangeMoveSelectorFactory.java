@@ -25,6 +25,7 @@ import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelectorFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.value.IterableValueSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.ValueSelectorFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.value.decorator.DontLookBitsValueSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.decorator.UnassignedListValueSelector;
 
 public class ListChangeMoveSelectorFactory<Solution_>
@@ -100,6 +101,15 @@ public class ListChangeMoveSelectorFactory<Solution_>
         var sourceValueSelector = ValueSelectorFactory
                 .<Solution_> create(valueSelectorConfig)
                 .buildValueSelector(configPolicy, entityDescriptor, minimumCacheType, selectionOrder);
+        var dontLookBits = Objects.requireNonNullElse(config.getDontLookBits(), false);
+        if (dontLookBits) {
+            if (!randomSelection) {
+                throw new IllegalArgumentException(
+                        "The listChangeMoveSelector (%s) with dontLookBits (%s) has non-random randomSelection (%s)."
+                                .formatted(config, dontLookBits, randomSelection));
+            }
+            sourceValueSelector = new DontLookBitsValueSelector<>((IterableValueSelector<Solution_>) sourceValueSelector);
+        }
         if (isExhaustiveSearch) {
             sourceValueSelector = new UnassignedListValueSelector<>((IterableValueSelector<Solution_>) sourceValueSelector);
         }
@@ -192,6 +202,7 @@ public class ListChangeMoveSelectorFactory<Solution_>
         var listChangeMoveSelectorConfig =
                 buildChildMoveSelectorConfig(variableDescriptorList.get(0), valueSelectorConfig, destinationSelectorConfig);
         listChangeMoveSelectorConfig.inheritFolded(config);
+        listChangeMoveSelectorConfig.setDontLookBits(config.getDontLookBits());
         return listChangeMoveSelectorConfig;
     }
 
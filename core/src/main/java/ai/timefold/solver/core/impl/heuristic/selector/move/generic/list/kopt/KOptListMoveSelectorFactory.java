@@ -14,6 +14,7 @@ import ai.timefold.solver.core.impl.heuristic.selector.move.AbstractMoveSelector
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.IterableValueSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.ValueSelectorFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.value.decorator.DontLookBitsValueSelector;
 
 public final class KOptListMoveSelectorFactory<Solution_>
         extends AbstractMoveSelectorFactory<Solution_, KOptListMoveSelectorConfig> {
@@ -49,6 +50,15 @@ public final class KOptListMoveSelectorFactory<Solution_>
         var selectionOrder = SelectionOrder.fromRandomSelectionBoolean(randomSelection);
         var originSelector = buildIterableValueSelector(configPolicy, entityDescriptor, originSelectorConfig,
                 minimumCacheType, selectionOrder);
+        var dontLookBits = Objects.requireNonNullElse(config.getDontLookBits(), false);
+        if (dontLookBits) {
+            if (!randomSelection) {
+                throw new IllegalArgumentException(
+                        "The kOptListMoveSelector (%s) with dontLookBits (%s) has non-random randomSelection (%s)."
+                                .formatted(config, dontLookBits, randomSelection));
+            }
+            originSelector = new DontLookBitsValueSelector<>(originSelector);
+        }
         var valueSelector = buildIterableValueSelector(configPolicy, entityDescriptor, valueSelectorConfig,
                 minimumCacheType, selectionOrder);
 
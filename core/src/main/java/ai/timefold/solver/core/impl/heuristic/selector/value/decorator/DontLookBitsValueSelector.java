@@ -0,0 +1,222 @@
+package ai.timefold.solver.core.impl.heuristic.selector.value.decorator;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import ai.timefold.solver.core.impl.domain.variable.ListVariableStateSupply;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.AbstractDemandEnabledSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import ai.timefold.solver.core.impl.heuristic.selector.value.IterableValueSelector;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Deprioritizes the values of a planning list variable whose neighbourhood has not changed
+ * since their moves last failed, a technique known as don't look bits.
+ * <p>
+ * A value which was selected during {@link #FAILED_STEP_LIMIT} steps
+ * that neither moved it nor changed its previous or next element, gets its don't look bit set.
+ * Such a value is skipped when it is selected again,
+ * unless the child value selector returns {@link #MAXIMUM_SKIP_COUNT} such values in a row.
+ * As soon as one of its neighbours changes, the bit is reset.
+ * Unassigned values are never skipped, because they have no neighbours.
+ * <p>
+ * The neighbours are compared when the value is selected, instead of listening to every variable change,
+ * so that the steps which do not select the value don't pay for it.
+ */
+@NullMarked
+public final class DontLookBitsValueSelector<Solution_>
+        extends AbstractDemandEnabledSelector<Solution_>
+        implements IterableValueSelector<Solution_> {
+
+    static final int FAILED_STEP_LIMIT = 10;
+    static final int MAXIMUM_SKIP_COUNT = 10;
+
+    private final IterableValueSelector<Solution_> childValueSelector;
+    private final Map<Object, LookState> lookStateMap = new IdentityHashMap<>();
+    private final List<LookState> stepLookStateList = new ArrayList<>();
+
+    private @Nullable ListVariableStateSupply<Solution_, Object, Object> listVariableStateSupply;
+
+    public DontLookBitsValueSelector(IterableValueSelector<Solution_> childValueSelector) {
+        this.childValueSelector = Objects.requireNonNull(childValueSelector);
+        phaseLifecycleSupport.addEventListener(childValueSelector);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        var variableDescriptor = (ListVariableDescriptor<Solution_>) childValueSelector.getVariableDescriptor();
+        listVariableStateSupply = phaseScope.getScoreDirector().getSupplyManager()
+                .demand(variableDescriptor.getStateDemand());
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        for (var lookState : stepLookStateList) {
+            if (lookState.hasSameNeighbours()) {
+                lookState.failedStepCount++;
+            } else {
+                lookState.failedStepCount = 0;
+            }
+            lookState.selectedInStep = false;
+        }
+        stepLookStateList.clear();
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        lookStateMap.clear();
+        stepLookStateList.clear();
+        listVariableStateSupply = null;
+    }
+
+    @Override
+    public GenuineVariableDescriptor<Solution_> getVariableDescriptor() {
+        return childValueSelector.getVariableDescriptor();
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        return childValueSelector.isNeverEnding();
+    }
+
+    @Override
+    public long getSize(Object entity) {
+        return childValueSelector.getSize(entity);
+    }
+
+    @Override
+    public long getSize() {
+        return childValueSelector.getSize();
+    }
+
+    @Override
+    public Iterator<Object> iterator(Object entity) {
+        return new DontLookBitsValueIterator(childValueSelector.iterator(entity));
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new DontLookBitsValueIterator(childValueSelector.iterator());
+    }
+
+    @Override
+    public Iterator<Object> endingIterator(Object entity) {
+        return new DontLookBitsValueIterator(childValueSelector.endingIterator(entity));
+    }
+
+    private boolean isDontLook(Object value) {
+        var lookState = lookStateMap.get(value);
+        if (lookState == null || lookState.failedStepCount < FAILED_STEP_LIMIT) {
+            return false;
+        }
+        if (lookState.hasSameNeighbours()) {
+            return true;
+        }
+        lookState.failedStepCount = 0;
+        return false;
+    }
+
+    private void look(Object value) {
+        var lookState = lookStateMap.computeIfAbsent(value, LookState::new);
+        if (lookState.selectedInStep) {
+            return;
+        }
+        if (!lookState.hasSameNeighbours()) {
+            lookState.failedStepCount = 0;
+            lookState.rememberNeighbours();
+        }
+        if (lookState.entity != null) {
+            lookState.selectedInStep = true;
+            stepLookStateList.add(lookState);
+        }
+    }
+
+    private final class DontLookBitsValueIterator extends UpcomingSelectionIterator<Object> {
+
+        private final Iterator<Object> childValueIterator;
+
+        private DontLookBitsValueIterator(Iterator<Object> childValueIterator) {
+            this.childValueIterator = childValueIterator;
+        }
+
+        @Override
+        protected Object createUpcomingSelection() {
+            var skipCount = 0;
+            while (childValueIterator.hasNext()) {
+                var next = childValueIterator.next();
+                if (skipCount >= MAXIMUM_SKIP_COUNT || !isDontLook(next)) {
+                    look(next);
+                    return next;
+                }
+                skipCount++;
+            }
+            return noUpcomingSelection();
+        }
+
+    }
+
+    private final class LookState {
+
+        private final Object value;
+        private @Nullable Object entity;
+        private @Nullable Object previous;
+        private @Nullable Object next;
+        private int failedStepCount = 0;
+        private boolean selectedInStep = false;
+
+        private LookState(Object value) {
+            this.value = value;
+            rememberNeighbours();
+        }
+
+        private void rememberNeighbours() {
+            var supply = Objects.requireNonNull(listVariableStateSupply);
+            entity = supply.getInverseSingleton(value);
+            previous = entity == null ? null : supply.getPreviousElement(value);
+            next = entity == null ? null : supply.getNextElement(value);
+        }
+
+        private boolean hasSameNeighbours() {
+            var supply = Objects.requireNonNull(listVariableStateSupply);
+            var currentEntity = supply.getInverseSingleton(value);
+            return currentEntity == entity
+                    && (currentEntity == null
+                            || (supply.getPreviousElement(value) == previous && supply.getNextElement(value) == next));
+        }
+
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof DontLookBitsValueSelector<?> that
+                && Objects.equals(childValueSelector, that.childValueSelector);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(DontLookBitsValueSelector.class, childValueSelector);
+    }
+
+    @Override
+    public String toString() {
+        return "DontLookBits(" + childValueSelector + ")";
+    }
+
+}
@@ -112,6 +112,8 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
             doStep(stepScope);
             stepEnded(stepScope);
             phaseScope.setLastCompletedStepScope(stepScope);
+            // Yield at the step boundary, before the termination is checked.
+            solverScope.checkYielding(phaseScope);
         }
         phaseEnded(phaseScope);
     }
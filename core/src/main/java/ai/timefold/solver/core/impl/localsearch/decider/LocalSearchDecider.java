@@ -97,7 +97,6 @@ public class LocalSearchDecider<Solution_> {
             if (forager.isQuitEarly()) {
                 break;
             }
-            stepScope.getPhaseScope().getSolverScope().checkYielding();
             if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
                 break;
             }
@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
@@ -26,6 +27,11 @@ public abstract sealed class AbstractTabuAcceptor<Solution_>
         permits EntityTabuAcceptor, MoveTabuAcceptor, ValueTabuAcceptor {
 
     private final String logIndentation;
+    /**
+     * If true, tabus are compared by identity and are never null,
+     * which allows for {@link IdentityTabuStepIndexMap} instead of {@link #tabuToStepIndexMap}.
+     */
+    private final boolean identityTabus;
 
     private @Nullable TabuSizeStrategy<Solution_> tabuSizeStrategy = null;
     private @Nullable TabuSizeStrategy<Solution_> fadingTabuSizeStrategy = null;
@@ -34,12 +40,14 @@ public abstract sealed class AbstractTabuAcceptor<Solution_>
     private boolean assertTabuHashCodeCorrectness = false;
 
     private Map<@Nullable Object, Integer> tabuToStepIndexMap = Collections.emptyMap(); // Avoid @Nullable.
+    private @Nullable IdentityTabuStepIndexMap identityTabuStepIndexMap = null;
 
     private int workingTabuSize = -1;
     private int workingFadingTabuSize = -1;
 
-    protected AbstractTabuAcceptor(String logIndentation) {
+    protected AbstractTabuAcceptor(String logIndentation, boolean identityTabus) {
         this.logIndentation = logIndentation;
+        this.identityTabus = identityTabus;
     }
 
     public void setTabuSizeStrategy(TabuSizeStrategy<Solution_> tabuSizeStrategy) {
@@ -71,13 +79,18 @@ public abstract sealed class AbstractTabuAcceptor<Solution_>
         workingFadingTabuSize = fadingTabuSizeStrategy == null ? 0
                 : fadingTabuSizeStrategy.determineTabuSize(lastCompletedStepScope);
         var totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
-        tabuToStepIndexMap = LinkedHashMap.newLinkedHashMap(totalTabuListSize);
+        if (identityTabus) {
+            identityTabuStepIndexMap = new IdentityTabuStepIndexMap();
+        } else {
+            tabuToStepIndexMap = LinkedHashMap.newLinkedHashMap(totalTabuListSize);
+        }
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
         tabuToStepIndexMap = Collections.emptyMap();
+        identityTabuStepIndexMap = null;
         workingTabuSize = -1;
         workingFadingTabuSize = -1;
     }
@@ -93,6 +106,14 @@ public abstract sealed class AbstractTabuAcceptor<Solution_>
 
     protected void adjustTabuList(int tabuStepIndex, Collection<@Nullable Object> tabus) {
         var totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
+        if (identityTabuStepIndexMap != null) {
+            // Expire the oldest tabu(s), instead of removing them.
+            identityTabuStepIndexMap.expireBefore(tabuStepIndex - totalTabuListSize + 1);
+            for (var tabu : tabus) {
+                identityTabuStepIndexMap.put(Objects.requireNonNull(tabu), tabuStepIndex);
+            }
+            return;
+        }
         // Remove the oldest tabu(s).
         var it = tabuToStepIndexMap.keySet().iterator();
         while (it.hasNext()) {
@@ -157,6 +178,13 @@ public abstract sealed class AbstractTabuAcceptor<Solution_>
     private int locateMaximumTabuStepIndex(LocalSearchMoveScope<Solution_> moveScope) {
         var checkingTabus = findTabu(moveScope);
         var maximumTabuStepIndex = -1;
+        if (identityTabuStepIndexMap != null) {
+            for (var checkingTabu : checkingTabus) {
+                maximumTabuStepIndex = Math.max(identityTabuStepIndexMap.get(Objects.requireNonNull(checkingTabu)),
+                        maximumTabuStepIndex);
+            }
+            return maximumTabuStepIndex;
+        }
         for (var checkingTabu : checkingTabus) {
             var tabuStepIndexInteger = tabuToStepIndexMap.get(checkingTabu);
             if (tabuStepIndexInteger != null) {
@@ -7,11 +7,15 @@ import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 
 import org.jspecify.annotations.NullMarked;
 
+/**
+ * Planning entities of the working solution are distinct instances,
+ * so they are compared by identity, which is cheaper than {@link Object#hashCode()} and {@link Object#equals(Object)}.
+ */
 @NullMarked
 public final class EntityTabuAcceptor<Solution_> extends AbstractTabuAcceptor<Solution_> {
 
     public EntityTabuAcceptor(String logIndentation) {
-        super(logIndentation);
+        super(logIndentation, true);
     }
 
     // ************************************************************************
@@ -0,0 +1,113 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Maps each tabu to the index of the step in which it last became tabu, comparing tabus by identity.
+ * <p>
+ * Uses open addressing with linear probing over flat arrays,
+ * so that neither a lookup nor an update allocates or boxes the step index.
+ * Entries are never removed; instead, {@link #expireBefore(int)} hides every entry older than a given step index.
+ * Therefore the number of entries is bounded by the number of distinct tabus seen during the phase,
+ * which makes this suitable only for tabus from a bounded set, such as the planning entities.
+ */
+@NullMarked
+final class IdentityTabuStepIndexMap {
+
+    static final int NO_STEP_INDEX = -1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private @Nullable Object[] keys;
+    private int[] stepIndexes;
+    private int mask;
+    private int size = 0;
+    private int minimumStepIndex = 0;
+
+    IdentityTabuStepIndexMap() {
+        this.keys = new Object[DEFAULT_CAPACITY];
+        this.stepIndexes = new int[DEFAULT_CAPACITY];
+        this.mask = DEFAULT_CAPACITY - 1;
+    }
+
+    /**
+     * @return {@link #NO_STEP_INDEX} if the tabu was never put, or if it expired since
+     */
+    int get(Object tabu) {
+        var index = hash(tabu) & mask;
+        while (true) {
+            var key = keys[index];
+            if (key == null) {
+                return NO_STEP_INDEX;
+            } else if (key == tabu) {
+                var stepIndex = stepIndexes[index];
+                return stepIndex < minimumStepIndex ? NO_STEP_INDEX : stepIndex;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    void put(Object tabu, int stepIndex) {
+        var index = hash(tabu) & mask;
+        while (true) {
+            var key = keys[index];
+            if (key == null) {
+                keys[index] = tabu;
+                stepIndexes[index] = stepIndex;
+                size++;
+                // Keep the load factor at most 0.5, so that probe sequences stay short.
+                if (size > (mask >> 1)) {
+                    resize();
+                }
+                return;
+            } else if (key == tabu) {
+                stepIndexes[index] = stepIndex;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Every tabu which was last put with a step index lower than the given one is considered absent from then on.
+     * Expiry is permanent; a lower step index than in a previous call has no effect.
+     *
+     * @param minimumStepIndex the lowest step index which is still tabu
+     */
+    void expireBefore(int minimumStepIndex) {
+        this.minimumStepIndex = Math.max(this.minimumStepIndex, minimumStepIndex);
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldStepIndexes = stepIndexes;
+        var newCapacity = oldKeys.length << 1;
+        keys = new Object[newCapacity];
+        stepIndexes = new int[newCapacity];
+        mask = newCapacity - 1;
+        for (var i = 0; i < oldKeys.length; i++) {
+            var key = oldKeys[i];
+            if (key == null) {
+                continue;
+            }
+            var index = hash(key) & mask;
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            stepIndexes[index] = oldStepIndexes[i];
+        }
+    }
+
+    private static int hash(Object tabu) {
+        // Spread the identity hash code, as linear probing only uses its lowest bits.
+        var hash = System.identityHashCode(tabu) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    int size() {
+        return size;
+    }
+
+}
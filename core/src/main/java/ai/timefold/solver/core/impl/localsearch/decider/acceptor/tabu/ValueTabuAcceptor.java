@@ -8,11 +8,16 @@ import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
+/**
+ * Unlike planning entities, planning values may be null,
+ * and equal values need not be the same instance (such as values from a countable range),
+ * so they are compared by {@link Object#equals(Object)}.
+ */
 @NullMarked
 public final class ValueTabuAcceptor<Solution_> extends AbstractTabuAcceptor<Solution_> {
 
     public ValueTabuAcceptor(String logIndentation) {
-        super(logIndentation);
+        super(logIndentation, false);
     }
 
     // ************************************************************************
@@ -75,6 +75,8 @@ public final class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSe
         moveScope.getStepScope().getPhaseScope().addMoveEvaluationCount(moveScope.getMove(), 1);
         if (moveScope.getAccepted()) {
             acceptedMoveCount++;
+            // Kept up to date during the step, so that an adaptive move selector knows which move was accepted.
+            moveScope.getStepScope().setAcceptedMoveCount(acceptedMoveCount);
             checkPickEarly(moveScope);
         }
         finalistPodium.addMove(moveScope);
@@ -6,6 +6,7 @@ import java.util.Objects;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacer;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.Placement;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.QueuedValuePlacer;
+import ai.timefold.solver.core.impl.constructionheuristic.placer.RegretInsertionValuePlacer;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.score.director.SessionContext;
@@ -87,8 +88,9 @@ public final class PlacerBasedMoveRepository<Solution_>
         // However, in certain cases, such as ALLOCATE_TO_VALUE_FROM_QUEUE,
         // a QueuedValuePlacer can be created for a basic planning variable,
         // and in these cases, the move selector does not rely on a list variable.
-        return placer instanceof QueuedValuePlacer<Solution_> queuedValuePlacer
-                && queuedValuePlacer.hasListChangeMoveSelector();
+        return placer instanceof RegretInsertionValuePlacer<Solution_>
+                || (placer instanceof QueuedValuePlacer<Solution_> queuedValuePlacer
+                        && queuedValuePlacer.hasListChangeMoveSelector());
     }
 
 }
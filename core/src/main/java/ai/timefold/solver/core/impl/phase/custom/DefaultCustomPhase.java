@@ -61,7 +61,7 @@ public final class DefaultCustomPhase<Solution_>
         var iterator = customPhaseCommandList.iterator();
         while (iterator.hasNext()) {
             var customPhaseCommand = iterator.next();
-            solverScope.checkYielding();
+            solverScope.checkYielding(phaseScope);
             if (phaseTermination.isPhaseTerminated(phaseScope)) {
                 earlyTerminationStatus = TerminationStatus.early(phaseScope.getNextStepIndex());
                 break;
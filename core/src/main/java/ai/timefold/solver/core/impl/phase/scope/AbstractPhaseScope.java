@@ -142,6 +142,14 @@ public abstract class AbstractPhaseScope<Solution_> {
         return endingSystemTimeMillis - startingSystemTimeMillis;
     }
 
+    /**
+     * @param pausedTimeMillis the time during which the solver was paused, which does not count as time spent
+     * @see SolverScope#checkYielding(AbstractPhaseScope)
+     */
+    public void excludePausedTime(long pausedTimeMillis) {
+        startingSystemTimeMillis += pausedTimeMillis;
+    }
+
     public void addChildThreadsScoreCalculationCount(long addition) {
         solverScope.addChildThreadsScoreCalculationCount(addition);
         childThreadsScoreCalculationCount += addition;
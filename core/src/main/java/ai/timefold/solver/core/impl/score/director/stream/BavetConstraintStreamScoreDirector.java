@@ -35,6 +35,11 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     private final boolean derived;
     private @Nullable BavetConstraintSession<Score_> session;
+    /**
+     * For most score types, the session returns the same score instance for as long as the score does not change;
+     * reusing the previous result in that case avoids allocating a new one for every evaluated move.
+     */
+    private @Nullable InnerScore<Score_> lastCalculatedScore;
 
     private BavetConstraintStreamScoreDirector(Builder<Solution_, Score_> builder, boolean derived) {
         super(builder);
@@ -92,7 +97,13 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         shadowVariableSupport.assertShadowVariablesAreUpToDate();
         var score = session.calculateScore();
         setCalculatedScore(score);
-        return new InnerScore<>(score, -getWorkingInitScore());
+        var unassignedCount = -getWorkingInitScore();
+        var innerScore = lastCalculatedScore;
+        if (innerScore == null || innerScore.raw() != score || innerScore.unassignedCount() != unassignedCount) {
+            innerScore = new InnerScore<>(score, unassignedCount);
+            lastCalculatedScore = innerScore;
+        }
+        return innerScore;
     }
 
     @Override
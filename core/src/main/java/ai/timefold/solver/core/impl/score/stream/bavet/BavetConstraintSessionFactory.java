@@ -34,6 +34,10 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BavetConstraintSessionFactory.class);
     public static final Level CONSTRAINT_WEIGHT_LOGGING_LEVEL = Level.DEBUG;
+    /**
+     * The report is long and only useful when tuning the constraints, hence a lower level than the constraint weights.
+     */
+    static final Level NODE_SHARING_LOGGING_LEVEL = Level.TRACE;
 
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final ConstraintMetaModel constraintMetaModel;
@@ -66,6 +70,7 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
         var scoreDefinition = solutionDescriptor.<Score_> getScoreDefinition();
         var zeroScore = scoreDefinition.getZeroScore();
         var constraintStreamSet = new LinkedHashSet<BavetAbstractConstraintStream<Solution_>>();
+        var enabledConstraintList = new ArrayList<BavetConstraint<Solution_>>(constraints.size());
         var constraintWeightMap = HashMap.<Constraint, Score_> newHashMap(constraints.size());
 
         // Only log constraint weights if logging is enabled; otherwise we don't need to build the string.
@@ -94,6 +99,7 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                  * to ensure there are no 2 equal ConstraintStream instances (with different child stream lists).
                  */
                 castConstraint.collectActiveConstraintStreams(constraintStreamSet);
+                enabledConstraintList.add(castConstraint);
                 constraintWeightMap.put(constraint, constraintWeight);
             } else {
                 if (constraintWeightLoggingEnabled) {
@@ -115,6 +121,9 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
         if (constraintWeightLoggingEnabled) {
             LOGGER.atLevel(CONSTRAINT_WEIGHT_LOGGING_LEVEL).log(constraintWeightString.toString().trim());
         }
+        if (!scoreDirectorDerived && LOGGER.isEnabledForLevel(NODE_SHARING_LOGGING_LEVEL)) {
+            LOGGER.atLevel(NODE_SHARING_LOGGING_LEVEL).log(BavetNodeSharingReport.describe(enabledConstraintList));
+        }
         return new BavetConstraintSession<>(scoreInliner,
                 buildNodeNetwork(workingSolution, consistencyTracker, constraintStreamSet, scoreInliner, constraintProfiler,
                         scoreDirectorDerived));
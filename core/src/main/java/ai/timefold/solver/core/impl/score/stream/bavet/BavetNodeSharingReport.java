@@ -0,0 +1,99 @@
+package ai.timefold.solver.core.impl.score.stream.bavet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintRef;
+import ai.timefold.solver.core.impl.bavet.common.BavetAbstractConstraintStream;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.BavetScoringConstraintStream;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Describes how well the constraint streams of the enabled constraints are shared.
+ * <p>
+ * Streams are shared by {@link BavetConstraintFactory#share(BavetAbstractConstraintStream)},
+ * which relies on {@link Object#equals(Object)} of the streams,
+ * and therefore on the equality of the lambdas, joiners and collectors they were built with.
+ * Two lambdas with the same body are still different instances,
+ * so constraints which look alike in the source code may not share any nodes.
+ * This report lists the streams which are shared by two or more constraints,
+ * as well as sibling streams of the same type which were not shared,
+ * so that users can find the lambdas worth extracting into a constant or a method reference.
+ * <p>
+ * Only used for logging; the report is not cheap to build.
+ */
+@NullMarked
+final class BavetNodeSharingReport {
+
+    static <Solution_> String describe(Collection<BavetConstraint<Solution_>> constraintCollection) {
+        // Identity, as equal streams are guaranteed to be the same instance after sharing.
+        var streamToConstraintMap =
+                new IdentityHashMap<BavetAbstractConstraintStream<Solution_>, Set<ConstraintRef>>();
+        for (var constraint : constraintCollection) {
+            var constraintStreamSet = new LinkedHashSet<BavetAbstractConstraintStream<Solution_>>();
+            constraint.collectActiveConstraintStreams(constraintStreamSet);
+            for (var stream : constraintStreamSet) {
+                streamToConstraintMap.computeIfAbsent(stream, k -> new LinkedHashSet<>())
+                        .add(constraint.getConstraintRef());
+            }
+        }
+        var sharedStreamList = new ArrayList<String>();
+        for (var entry : streamToConstraintMap.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                sharedStreamList.add("  Stream (%s) at %s is shared by constraints %s."
+                        .formatted(entry.getKey(), entry.getKey().getLocationSet(), entry.getValue()));
+            }
+        }
+        var unsharedSiblingList = new ArrayList<String>();
+        for (var stream : streamToConstraintMap.keySet()) {
+            for (var siblingList : groupActiveChildrenByType(stream, streamToConstraintMap).values()) {
+                if (siblingList.size() > 1) {
+                    unsharedSiblingList.add("  Streams %s following (%s) are of the same type, but not shared.%n    %s"
+                            .formatted(siblingList, stream, siblingList.stream()
+                                    .map(sibling -> "%s used by %s".formatted(sibling.getLocationSet(),
+                                            streamToConstraintMap.get(sibling)))
+                                    .collect(Collectors.joining("%n    ".formatted()))));
+                }
+            }
+        }
+        var out = new StringBuilder(
+                "Node sharing for (%d) constraints: (%d) streams, (%d) of which shared by more than one constraint.%n"
+                        .formatted(constraintCollection.size(), streamToConstraintMap.size(), sharedStreamList.size()));
+        sharedStreamList.forEach(line -> out.append(line).append(System.lineSeparator()));
+        if (!unsharedSiblingList.isEmpty()) {
+            out.append("Possibly missed node sharing (%d):%n".formatted(unsharedSiblingList.size()));
+            unsharedSiblingList.forEach(line -> out.append(line).append(System.lineSeparator()));
+            out.append("Maybe these streams use lambdas, joiners or collectors which are equivalent, but not the same instance.")
+                    .append(System.lineSeparator())
+                    .append("Maybe extract them into a constant or use a method reference, so that the streams can be shared.");
+        }
+        return out.toString().trim();
+    }
+
+    private static <Solution_> Map<Class<?>, List<BavetAbstractConstraintStream<Solution_>>> groupActiveChildrenByType(
+            BavetAbstractConstraintStream<Solution_> stream,
+            Map<BavetAbstractConstraintStream<Solution_>, Set<ConstraintRef>> streamToConstraintMap) {
+        var childrenByTypeMap = new LinkedHashMap<Class<?>, List<BavetAbstractConstraintStream<Solution_>>>();
+        for (var child : stream.getChildStreamList()) {
+            // Scoring streams are specific to each constraint, and therefore never shared.
+            if (child instanceof BavetScoringConstraintStream<?> || !streamToConstraintMap.containsKey(child)) {
+                continue;
+            }
+            childrenByTypeMap.computeIfAbsent(child.getClass(), k -> new ArrayList<>()).add(child);
+        }
+        return childrenByTypeMap;
+    }
+
+    private BavetNodeSharingReport() {
+        // No external instances.
+    }
+
+}
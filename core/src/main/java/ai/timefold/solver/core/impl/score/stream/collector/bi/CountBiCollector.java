@@ -34,7 +34,7 @@ final class CountBiCollector<A, B> implements BiConstraintCollector<A, B, Mutabl
 
     @Override
     public @NonNull Function<MutableLong, Long> finisher() {
-        return MutableLong::longValue;
+        return MutableLong::boxedValue;
     }
 
     private static final class Slot<A, B> extends AbstractCountSlot
@@ -23,7 +23,7 @@ final class SumBiCollector<A, B>
 
     @Override
     public @NonNull Function<MutableLong, Long> finisher() {
-        return MutableLong::longValue;
+        return MutableLong::boxedValue;
     }
 
     @Override
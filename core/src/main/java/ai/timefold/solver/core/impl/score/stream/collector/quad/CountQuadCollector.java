@@ -35,7 +35,7 @@ final class CountQuadCollector<A, B, C, D>
 
     @Override
     public @NonNull Function<MutableLong, Long> finisher() {
-        return MutableLong::longValue;
+        return MutableLong::boxedValue;
     }
 
     private static final class Slot<A, B, C, D> extends AbstractCountSlot
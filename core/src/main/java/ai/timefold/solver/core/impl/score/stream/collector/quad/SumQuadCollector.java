@@ -23,7 +23,7 @@ final class SumQuadCollector<A, B, C, D>
 
     @Override
     public @NonNull Function<MutableLong, Long> finisher() {
-        return MutableLong::longValue;
+        return MutableLong::boxedValue;
     }
 
     @Override
@@ -34,7 +34,7 @@ final class CountTriCollector<A, B, C> implements TriConstraintCollector<A, B, C
 
     @Override
     public @NonNull Function<MutableLong, Long> finisher() {
-        return MutableLong::longValue;
+        return MutableLong::boxedValue;
     }
 
     private static final class Slot<A, B, C> extends AbstractCountSlot
@@ -23,7 +23,7 @@ final class SumTriCollector<A, B, C>
 
     @Override
     public @NonNull Function<MutableLong, Long> finisher() {
-        return MutableLong::longValue;
+        return MutableLong::boxedValue;
     }
 
     @Override
@@ -34,7 +34,7 @@ final class CountUniCollector<A> implements UniConstraintCollector<A, MutableLon
 
     @Override
     public @NonNull Function<MutableLong, Long> finisher() {
-        return MutableLong::longValue;
+        return MutableLong::boxedValue;
     }
 
     private static final class Slot<A> extends AbstractCountSlot
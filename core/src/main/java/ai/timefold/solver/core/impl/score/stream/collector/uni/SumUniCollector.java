@@ -22,7 +22,7 @@ final class SumUniCollector<A> extends AbstractPrimitiveBasedUniCollector<A, Lon
 
     @Override
     public @NonNull Function<MutableLong, Long> finisher() {
-        return MutableLong::longValue;
+        return MutableLong::boxedValue;
     }
 
     @Override
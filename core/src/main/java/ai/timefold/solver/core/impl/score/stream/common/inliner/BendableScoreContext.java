@@ -16,6 +16,10 @@ final class BendableScoreContext extends ScoreContext<BendableScore, BendableSco
     private final int softScoreLevelCount;
     private final int scoreLevel;
     private final long scoreLevelWeight;
+    // Impacts with a match weight of 1 are shared by all matches; see HardSoftScoreContext.
+    private final SingleSoftImpact unitSoftImpact;
+    private final SingleHardImpact unitHardImpact;
+    private final ComplexImpact unitComplexImpact;
 
     public BendableScoreContext(BendableScoreInliner parent, AbstractConstraint<?, ?, ?> constraint,
             BendableScore constraintWeight, int hardScoreLevelCount, int softScoreLevelCount, int scoreLevel,
@@ -25,6 +29,9 @@ final class BendableScoreContext extends ScoreContext<BendableScore, BendableSco
         this.softScoreLevelCount = softScoreLevelCount;
         this.scoreLevel = scoreLevel;
         this.scoreLevelWeight = scoreLevelWeight;
+        this.unitSoftImpact = new SingleSoftImpact(this, scoreLevelWeight);
+        this.unitHardImpact = new SingleHardImpact(this, scoreLevelWeight);
+        this.unitComplexImpact = new ComplexImpact(this, constraintWeight.hardScores(), constraintWeight.softScores());
     }
 
     public BendableScoreContext(BendableScoreInliner parent, AbstractConstraint<?, ?, ?> constraint,
@@ -36,7 +43,7 @@ final class BendableScoreContext extends ScoreContext<BendableScore, BendableSco
             @Nullable ConstraintMatchSupplier<BendableScore> constraintMatchSupplier) {
         var softImpact = Math.multiplyExact(scoreLevelWeight, matchWeight);
         inliner.softScores[scoreLevel] = Math.addExact(inliner.softScores[scoreLevel], softImpact);
-        var scoreImpact = new SingleSoftImpact(this, softImpact);
+        var scoreImpact = matchWeight == 1 ? unitSoftImpact : new SingleSoftImpact(this, softImpact);
         return possiblyAddConstraintMatch(scoreImpact, constraintMatchSupplier);
     }
 
@@ -44,12 +51,17 @@ final class BendableScoreContext extends ScoreContext<BendableScore, BendableSco
             @Nullable ConstraintMatchSupplier<BendableScore> constraintMatchSupplier) {
         var hardImpact = Math.multiplyExact(scoreLevelWeight, matchWeight);
         inliner.hardScores[scoreLevel] = Math.addExact(inliner.hardScores[scoreLevel], hardImpact);
-        var scoreImpact = new SingleHardImpact(this, hardImpact);
+        var scoreImpact = matchWeight == 1 ? unitHardImpact : new SingleHardImpact(this, hardImpact);
         return possiblyAddConstraintMatch(scoreImpact, constraintMatchSupplier);
     }
 
     public ScoreImpact<BendableScore> changeScoreBy(long matchWeight,
             @Nullable ConstraintMatchSupplier<BendableScore> constraintMatchSupplier) {
+        if (matchWeight == 1) {
+            // Avoids allocating the impact arrays.
+            unitComplexImpact.apply();
+            return possiblyAddConstraintMatch(unitComplexImpact, constraintMatchSupplier);
+        }
         var hardImpacts = new long[hardScoreLevelCount];
         var softImpacts = new long[softScoreLevelCount];
         for (var hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
@@ -103,6 +115,18 @@ final class BendableScoreContext extends ScoreContext<BendableScore, BendableSco
             implements
                 ScoreImpact<BendableScore> {
 
+        private void apply() {
+            var inliner = ctx.inliner;
+            for (var hardScoreLevel = 0; hardScoreLevel < ctx.hardScoreLevelCount; hardScoreLevel++) {
+                inliner.hardScores[hardScoreLevel] =
+                        Math.addExact(inliner.hardScores[hardScoreLevel], hardImpacts[hardScoreLevel]);
+            }
+            for (var softScoreLevel = 0; softScoreLevel < ctx.softScoreLevelCount; softScoreLevel++) {
+                inliner.softScores[softScoreLevel] =
+                        Math.addExact(inliner.softScores[softScoreLevel], softImpacts[softScoreLevel]);
+            }
+        }
+
         @Override
         public void undo() {
             var inliner = ctx.inliner;
@@ -15,12 +15,14 @@ public final class BendableScoreInliner extends AbstractScoreInliner<BendableSco
 
     final long[] hardScores;
     final long[] softScores;
+    private BendableScore lastExtractedScore;
 
     BendableScoreInliner(Map<Constraint, BendableScore> constraintWeightMap,
             ConstraintMatchPolicy constraintMatchPolicy, int hardLevelsSize, int softLevelsSize) {
         super(constraintWeightMap, constraintMatchPolicy);
         hardScores = new long[hardLevelsSize];
         softScores = new long[softLevelsSize];
+        lastExtractedScore = BendableScore.zero(hardLevelsSize, softLevelsSize);
     }
 
     @Override
@@ -55,7 +57,12 @@ public final class BendableScoreInliner extends AbstractScoreInliner<BendableSco
 
     @Override
     public BendableScore extractScore() {
-        return BendableScore.of(Arrays.copyOf(hardScores, hardScores.length), Arrays.copyOf(softScores, softScores.length));
+        if (!Arrays.equals(lastExtractedScore.hardScores(), hardScores)
+                || !Arrays.equals(lastExtractedScore.softScores(), softScores)) {
+            lastExtractedScore = BendableScore.of(Arrays.copyOf(hardScores, hardScores.length),
+                    Arrays.copyOf(softScores, softScores.length));
+        }
+        return lastExtractedScore;
     }
 
     @Override
@@ -10,16 +10,27 @@ import org.jspecify.annotations.Nullable;
 final class HardMediumSoftScoreContext
         extends ScoreContext<HardMediumSoftScore, HardMediumSoftScoreInliner> {
 
+    // Impacts with a match weight of 1 are shared by all matches; see HardSoftScoreContext.
+    private final SoftImpact unitSoftImpact;
+    private final MediumImpact unitMediumImpact;
+    private final HardImpact unitHardImpact;
+    private final ComplexImpact unitComplexImpact;
+
     public HardMediumSoftScoreContext(HardMediumSoftScoreInliner parent, AbstractConstraint<?, ?, ?> constraint,
             HardMediumSoftScore constraintWeight) {
         super(parent, constraint, constraintWeight);
+        this.unitSoftImpact = new SoftImpact(parent, constraintWeight.softScore());
+        this.unitMediumImpact = new MediumImpact(parent, constraintWeight.mediumScore());
+        this.unitHardImpact = new HardImpact(parent, constraintWeight.hardScore());
+        this.unitComplexImpact = new ComplexImpact(parent, constraintWeight.hardScore(), constraintWeight.mediumScore(),
+                constraintWeight.softScore());
     }
 
     public ScoreImpact<HardMediumSoftScore> changeSoftScoreBy(long matchWeight,
             @Nullable ConstraintMatchSupplier<HardMediumSoftScore> constraintMatchSupplier) {
         var softImpact = Math.multiplyExact(constraintWeight.softScore(), matchWeight);
         inliner.softScore = Math.addExact(inliner.softScore, softImpact);
-        var scoreImpact = new SoftImpact(inliner, softImpact);
+        var scoreImpact = matchWeight == 1 ? unitSoftImpact : new SoftImpact(inliner, softImpact);
         return possiblyAddConstraintMatch(scoreImpact, constraintMatchSupplier);
     }
 
@@ -27,7 +38,7 @@ final class HardMediumSoftScoreContext
             @Nullable ConstraintMatchSupplier<HardMediumSoftScore> constraintMatchSupplier) {
         var mediumImpact = Math.multiplyExact(constraintWeight.mediumScore(), matchWeight);
         inliner.mediumScore = Math.addExact(inliner.mediumScore, mediumImpact);
-        var scoreImpact = new MediumImpact(inliner, mediumImpact);
+        var scoreImpact = matchWeight == 1 ? unitMediumImpact : new MediumImpact(inliner, mediumImpact);
         return possiblyAddConstraintMatch(scoreImpact, constraintMatchSupplier);
     }
 
@@ -35,7 +46,7 @@ final class HardMediumSoftScoreContext
             @Nullable ConstraintMatchSupplier<HardMediumSoftScore> constraintMatchSupplier) {
         var hardImpact = Math.multiplyExact(constraintWeight.hardScore(), matchWeight);
         inliner.hardScore = Math.addExact(inliner.hardScore, hardImpact);
-        var scoreImpact = new HardImpact(inliner, hardImpact);
+        var scoreImpact = matchWeight == 1 ? unitHardImpact : new HardImpact(inliner, hardImpact);
         return possiblyAddConstraintMatch(scoreImpact, constraintMatchSupplier);
     }
 
@@ -47,7 +58,8 @@ final class HardMediumSoftScoreContext
         inliner.hardScore = Math.addExact(inliner.hardScore, hardImpact);
         inliner.mediumScore = Math.addExact(inliner.mediumScore, mediumImpact);
         inliner.softScore = Math.addExact(inliner.softScore, softImpact);
-        var scoreImpact = new ComplexImpact(inliner, hardImpact, mediumImpact, softImpact);
+        var scoreImpact =
+                matchWeight == 1 ? unitComplexImpact : new ComplexImpact(inliner, hardImpact, mediumImpact, softImpact);
         return possiblyAddConstraintMatch(scoreImpact, constraintMatchSupplier);
     }
 
@@ -15,6 +15,7 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
     long hardScore;
     long mediumScore;
     long softScore;
+    private HardMediumSoftScore lastExtractedScore = HardMediumSoftScore.ZERO;
 
     HardMediumSoftScoreInliner(Map<Constraint, HardMediumSoftScore> constraintWeightMap,
             ConstraintMatchPolicy constraintMatchPolicy) {
@@ -41,7 +42,11 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
 
     @Override
     public HardMediumSoftScore extractScore() {
-        return HardMediumSoftScore.of(hardScore, mediumScore, softScore);
+        if (lastExtractedScore.hardScore() != hardScore || lastExtractedScore.mediumScore() != mediumScore
+                || lastExtractedScore.softScore() != softScore) {
+            lastExtractedScore = HardMediumSoftScore.of(hardScore, mediumScore, softScore);
+        }
+        return lastExtractedScore;
     }
 
     @Override
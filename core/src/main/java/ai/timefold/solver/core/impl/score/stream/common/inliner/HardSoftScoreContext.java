@@ -9,16 +9,28 @@ import org.jspecify.annotations.Nullable;
 @NullMarked
 final class HardSoftScoreContext extends ScoreContext<HardSoftScore, HardSoftScoreInliner> {
 
+    /*
+     * Most constraints impact with a match weight of 1.
+     * Those impacts are fully determined by the constraint weight and therefore can be shared by all matches,
+     * avoiding an allocation per match on the hot path.
+     */
+    private final SoftImpact unitSoftImpact;
+    private final HardImpact unitHardImpact;
+    private final ComplexImpact unitComplexImpact;
+
     public HardSoftScoreContext(HardSoftScoreInliner parent, AbstractConstraint<?, ?, ?> constraint,
             HardSoftScore constraintWeight) {
         super(parent, constraint, constraintWeight);
+        this.unitSoftImpact = new SoftImpact(parent, constraintWeight.softScore());
+        this.unitHardImpact = new HardImpact(parent, constraintWeight.hardScore());
+        this.unitComplexImpact = new ComplexImpact(parent, constraintWeight.hardScore(), constraintWeight.softScore());
     }
 
     public ScoreImpact<HardSoftScore> changeSoftScoreBy(long matchWeight,
             @Nullable ConstraintMatchSupplier<HardSoftScore> constraintMatchSupplier) {
         var softImpact = Math.multiplyExact(constraintWeight.softScore(), matchWeight);
         inliner.softScore = Math.addExact(inliner.softScore, softImpact);
-        var scoreImpact = new SoftImpact(inliner, softImpact);
+        var scoreImpact = matchWeight == 1 ? unitSoftImpact : new SoftImpact(inliner, softImpact);
         return possiblyAddConstraintMatch(scoreImpact, constraintMatchSupplier);
     }
 
@@ -26,7 +38,7 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore, HardSoftSco
             @Nullable ConstraintMatchSupplier<HardSoftScore> constraintMatchSupplier) {
         var hardImpact = Math.multiplyExact(constraintWeight.hardScore(), matchWeight);
         inliner.hardScore = Math.addExact(inliner.hardScore, hardImpact);
-        var scoreImpact = new HardImpact(inliner, hardImpact);
+        var scoreImpact = matchWeight == 1 ? unitHardImpact : new HardImpact(inliner, hardImpact);
         return possiblyAddConstraintMatch(scoreImpact, constraintMatchSupplier);
     }
 
@@ -36,7 +48,7 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore, HardSoftSco
         var softImpact = Math.multiplyExact(constraintWeight.softScore(), matchWeight);
         inliner.hardScore = Math.addExact(inliner.hardScore, hardImpact);
         inliner.softScore = Math.addExact(inliner.softScore, softImpact);
-        var scoreImpact = new ComplexImpact(inliner, hardImpact, softImpact);
+        var scoreImpact = matchWeight == 1 ? unitComplexImpact : new ComplexImpact(inliner, hardImpact, softImpact);
         return possiblyAddConstraintMatch(scoreImpact, constraintMatchSupplier);
     }
 
@@ -14,6 +14,11 @@ final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
 
     long hardScore;
     long softScore;
+    /**
+     * Many evaluated moves do not change the score, or change it back to what it was.
+     * Returning the previously extracted score in that case avoids allocating a new one for every such move.
+     */
+    private HardSoftScore lastExtractedScore = HardSoftScore.ZERO;
 
     HardSoftScoreInliner(Map<Constraint, HardSoftScore> constraintWeightMap,
             ConstraintMatchPolicy constraintMatchPolicy) {
@@ -35,7 +40,10 @@ final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
 
     @Override
     public HardSoftScore extractScore() {
-        return HardSoftScore.of(hardScore, softScore);
+        if (lastExtractedScore.hardScore() != hardScore || lastExtractedScore.softScore() != softScore) {
+            lastExtractedScore = HardSoftScore.of(hardScore, softScore);
+        }
+        return lastExtractedScore;
     }
 
     @Override
@@ -9,16 +9,20 @@ import org.jspecify.annotations.Nullable;
 @NullMarked
 final class SimpleScoreContext extends ScoreContext<SimpleScore, SimpleScoreInliner> {
 
+    // Impacts with a match weight of 1 are shared by all matches; see HardSoftScoreContext.
+    private final Impact unitImpact;
+
     public SimpleScoreContext(SimpleScoreInliner parent, AbstractConstraint<?, ?, ?> constraint,
             SimpleScore constraintWeight) {
         super(parent, constraint, constraintWeight);
+        this.unitImpact = new Impact(parent, constraintWeight.score());
     }
 
     public ScoreImpact<SimpleScore> changeScoreBy(long matchWeight,
             @Nullable ConstraintMatchSupplier<SimpleScore> constraintMatchSupplier) {
         var impact = Math.multiplyExact(constraintWeight.score(), matchWeight);
         inliner.score = Math.addExact(inliner.score, impact);
-        var scoreImpact = new Impact(inliner, impact);
+        var scoreImpact = matchWeight == 1 ? unitImpact : new Impact(inliner, impact);
         return possiblyAddConstraintMatch(scoreImpact, constraintMatchSupplier);
     }
 
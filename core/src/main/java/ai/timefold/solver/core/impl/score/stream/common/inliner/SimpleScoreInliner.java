@@ -13,6 +13,7 @@ import org.jspecify.annotations.NullMarked;
 final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore> {
 
     long score;
+    private SimpleScore lastExtractedScore = SimpleScore.ZERO;
 
     SimpleScoreInliner(Map<Constraint, SimpleScore> constraintWeightMap, ConstraintMatchPolicy constraintMatchPolicy) {
         super(constraintWeightMap, constraintMatchPolicy);
@@ -27,7 +28,10 @@ final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore> {
 
     @Override
     public SimpleScore extractScore() {
-        return SimpleScore.of(score);
+        if (lastExtractedScore.score() != score) {
+            lastExtractedScore = SimpleScore.of(score);
+        }
+        return lastExtractedScore;
     }
 
     @Override
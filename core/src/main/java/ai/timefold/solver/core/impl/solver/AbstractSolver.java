@@ -17,6 +17,7 @@ import ai.timefold.solver.core.impl.solver.event.SolverEventSupport;
 import ai.timefold.solver.core.impl.solver.random.DefaultRandomSource;
 import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecaller;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.SolverTermination;
 import ai.timefold.solver.core.impl.solver.termination.UniversalTermination;
 
 import org.jspecify.annotations.NullMarked;
@@ -111,6 +112,15 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
         }
     }
 
+    /**
+     * @param solverScope never null
+     * @return the timeGradient of the solver as a whole, or -1.0 when it is not supported
+     * @see SolverTermination#calculateSolverTimeGradient(SolverScope)
+     */
+    public double calculateTimeGradient(SolverScope<Solution_> solverScope) {
+        return globalTermination.calculateSolverTimeGradient(solverScope);
+    }
+
     public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
         bestSolutionRecaller.phaseStarted(phaseScope);
         phaseLifecycleSupport.firePhaseStarted(phaseScope);
@@ -233,10 +233,13 @@ public final class DefaultSolverJob<Solution_> implements SolverJob<Solution_>,
                 }
                 solvingTerminated();
             }
-            case SOLVING_ACTIVE ->
+            case SOLVING_ACTIVE -> {
                 // Indirectly triggers solvingTerminated()
                 // No need to cancel the finalBestSolutionFuture as it will finish normally.
                 solver.terminateEarly();
+                // Don't wait for a job with a higher priority to finish if this job yielded its solver thread to it.
+                solverManager.resumeSolverJob(this);
+            }
             case NOT_SOLVING -> {
                 // Do nothing, solvingTerminated() already called
             }
@@ -32,6 +32,7 @@ public final class DefaultSolverJobBuilder<Solution_> implements SolverJobBuilde
     private @Nullable Consumer<SolverJobStartedEvent<Solution_>> solverJobStartedConsumer;
     private @Nullable BiConsumer<? super Object, ? super Throwable> exceptionHandler;
     private @Nullable SolverConfigOverride solverConfigOverride;
+    private int priority = 0;
 
     public DefaultSolverJobBuilder(DefaultSolverManager<Solution_> solverManager) {
         this.solverManager = Objects.requireNonNull(solverManager, "The SolverManager (" + solverManager + ") cannot be null.");
@@ -99,6 +100,12 @@ public final class DefaultSolverJobBuilder<Solution_> implements SolverJobBuilde
         return this;
     }
 
+    @Override
+    public SolverJobBuilder<Solution_> withPriority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
     @Override
     public SolverJob<Solution_> run() {
         if (problemId == null) {
@@ -114,10 +121,10 @@ public final class DefaultSolverJobBuilder<Solution_> implements SolverJobBuilde
 
         if (this.bestSolutionConsumer == null) {
             return solverManager.solve(problemId, problemFinder, null, finalBestSolutionConsumer,
-                    initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride);
+                    initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride, priority);
         } else {
             return solverManager.solveAndListen(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
-                    initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride);
+                    initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride, priority);
         }
     }
 }
@@ -6,7 +6,6 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -42,7 +41,7 @@ public final class DefaultSolverManager<Solution_> implements SolverManager<Solu
 
     private final BiConsumer<Object, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
-    private final ExecutorService solverThreadPool;
+    private final SolverJobScheduler solverJobScheduler;
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_>> problemIdToSolverJobMap;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory, SolverManagerConfig solverManagerConfig) {
@@ -54,7 +53,7 @@ public final class DefaultSolverManager<Solution_> implements SolverManager<Solu
         var threadFactoryClass = solverManagerConfig.getThreadFactoryClass();
         var threadFactory = threadFactoryClass == null ? Executors.defaultThreadFactory()
                 : ConfigUtils.newInstance(solverManagerConfig, "threadFactoryClass", threadFactoryClass);
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount, threadFactory);
+        solverJobScheduler = new SolverJobScheduler(parallelSolverCount, threadFactory);
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
@@ -85,9 +84,9 @@ public final class DefaultSolverManager<Solution_> implements SolverManager<Solu
             @Nullable Consumer<FirstInitializedSolutionEvent<Solution_>> initializedSolutionConsumer,
             @Nullable Consumer<SolverJobStartedEvent<Solution_>> solverJobStartedConsumer,
             @Nullable BiConsumer<? super Object, ? super Throwable> exceptionHandler,
-            SolverConfigOverride solverConfigOverride) {
+            SolverConfigOverride solverConfigOverride, int priority) {
         return solve(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer, initializedSolutionConsumer,
-                solverJobStartedConsumer, exceptionHandler, solverConfigOverride);
+                solverJobStartedConsumer, exceptionHandler, solverConfigOverride, priority);
     }
 
     SolverJob<Solution_> solve(Object problemId, Function<? super Object, ? extends Solution_> problemFinder,
@@ -96,9 +95,9 @@ public final class DefaultSolverManager<Solution_> implements SolverManager<Solu
             @Nullable Consumer<FirstInitializedSolutionEvent<Solution_>> initializedSolutionConsumer,
             @Nullable Consumer<SolverJobStartedEvent<Solution_>> solverJobStartedConsumer,
             @Nullable BiConsumer<? super Object, ? super Throwable> exceptionHandler,
-            SolverConfigOverride configOverride) {
-        var solver = solverFactory.buildSolver(configOverride);
-        ((DefaultSolver<Solution_>) solver).setMonitorTagMap(Map.of("problem.id", problemId.toString()));
+            SolverConfigOverride configOverride, int priority) {
+        var solver = (DefaultSolver<Solution_>) solverFactory.buildSolver(configOverride);
+        solver.setMonitorTagMap(Map.of("problem.id", problemId.toString()));
         BiConsumer<? super Object, ? super Throwable> finalExceptionHandler =
                 (exceptionHandler != null) ? exceptionHandler : defaultExceptionHandler;
         var solverJob = problemIdToSolverJobMap.compute(problemId, (key, oldSolverJob) -> {
@@ -111,7 +110,7 @@ public final class DefaultSolverManager<Solution_> implements SolverManager<Solu
                         finalExceptionHandler);
             }
         });
-        var future = solverThreadPool.submit(solverJob);
+        var future = solverJobScheduler.submit(solverJob, priority, solver);
         solverJob.setFinalBestSolutionFuture(future);
         return solverJob;
     }
@@ -150,10 +149,14 @@ public final class DefaultSolverManager<Solution_> implements SolverManager<Solu
 
     @Override
     public void close() {
-        solverThreadPool.shutdownNow();
+        solverJobScheduler.shutdown();
         problemIdToSolverJobMap.values().forEach(DefaultSolverJob::close);
     }
 
+    void resumeSolverJob(DefaultSolverJob<Solution_> solverJob) {
+        solverJobScheduler.resume(solverJob);
+    }
+
     void unregisterSolverJob(Object problemId) {
         problemIdToSolverJobMap.remove(getProblemIdOrThrow(problemId));
     }
@@ -0,0 +1,223 @@
+package ai.timefold.solver.core.impl.solver;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Decides which solver jobs of a {@link DefaultSolverManager} are active.
+ * <p>
+ * At most parallelSolverCount jobs are active at the same time.
+ * When a job finishes, the waiting job with the highest priority is activated.
+ * Jobs with the same priority are activated in the order in which they were submitted.
+ * <p>
+ * A waiting job also preempts an active job with a lower priority:
+ * the active job yields at its next step boundary (see {@link SolverScope#checkYielding(AbstractPhaseScope)})
+ * and waits until it is activated again.
+ * A yielded job keeps its working solution in memory.
+ * The time during which it waits does not count as time spent, so it does not bring its time limit closer.
+ * A job never yields during a construction heuristic.
+ * Jobs with the same priority never preempt each other,
+ * because that would keep more working solutions in memory without finishing any job sooner on average.
+ * <p>
+ * A job only gets a thread when it is activated for the first time, and keeps it while it is yielded.
+ * At most parallelSolverCount jobs are yielded at the same time,
+ * so there are at most twice the parallelSolverCount threads.
+ */
+@NullMarked
+final class SolverJobScheduler {
+
+    private final int parallelSolverCount;
+    private final int maxThreadCount;
+    private final ExecutorService executorService;
+    private final PriorityQueue<Ticket<?>> waitingQueue = new PriorityQueue<>(
+            Comparator.<Ticket<?>, Integer> comparing(ticket -> ticket.priority, Comparator.reverseOrder())
+                    .thenComparingLong(ticket -> ticket.sequence));
+
+    private long nextSequence = 0L;
+    private int activeCount = 0;
+    /**
+     * The jobs which have a thread: the active jobs, the yielded jobs and the resumed jobs.
+     */
+    private int threadCount = 0;
+    /**
+     * Read without locking on every step of every active job,
+     * so the jobs don't contend with each other while no job with a higher priority is waiting.
+     */
+    private volatile int highestWaitingPriority = Integer.MIN_VALUE;
+
+    SolverJobScheduler(int parallelSolverCount, ThreadFactory threadFactory) {
+        this.parallelSolverCount = parallelSolverCount;
+        this.maxThreadCount = parallelSolverCount * 2;
+        this.executorService = Executors.newFixedThreadPool(maxThreadCount, threadFactory);
+    }
+
+    synchronized <T> Future<T> submit(Callable<T> job, int priority, DefaultSolver<?> solver) {
+        var ticket = new Ticket<>(job, priority, nextSequence++, solver);
+        solver.getSolverScope().setYieldingCallback(() -> yieldIfPreempted(ticket));
+        waitingQueue.add(ticket);
+        activateWaitingTickets();
+        return ticket.future;
+    }
+
+    /**
+     * @return true if the job was paused
+     */
+    private boolean yieldIfPreempted(Ticket<?> ticket) {
+        if (highestWaitingPriority <= ticket.priority) {
+            return false;
+        }
+        synchronized (this) {
+            var nextTicket = waitingQueue.peek();
+            if (!ticket.active || nextTicket == null || nextTicket.priority <= ticket.priority
+                    || ticket.solver.isTerminateEarly()) {
+                return false;
+            }
+            if (!nextTicket.started && threadCount >= maxThreadCount) {
+                // Too many jobs are yielded already, so the next job must wait for a job to finish.
+                return false;
+            }
+            ticket.active = false;
+            activeCount--;
+            waitingQueue.add(ticket);
+            activateWaitingTickets();
+            try {
+                while (!ticket.active && !ticket.resumed) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                // The BasicPlumbingTermination will terminate the solver.
+                Thread.currentThread().interrupt();
+                removeWaitingTicket(ticket);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Lets a yielded job continue without waiting to be activated again, so it can terminate.
+     * Must be called after {@link DefaultSolver#terminateEarly()}, so the job does not yield again.
+     * Until it finishes, one more job is active than the parallelSolverCount.
+     *
+     * @param job the job which was submitted
+     */
+    synchronized void resume(Callable<?> job) {
+        for (var ticket : waitingQueue) {
+            if (ticket.job == job) {
+                if (ticket.started) {
+                    removeWaitingTicket(ticket);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Called when the future of a ticket is cancelled,
+     * so a job which will never run doesn't keep preempting the active jobs with a lower priority.
+     */
+    private synchronized void cancelled(Ticket<?> ticket) {
+        if (waitingQueue.contains(ticket)) {
+            removeWaitingTicket(ticket);
+        }
+    }
+
+    private void removeWaitingTicket(Ticket<?> ticket) {
+        waitingQueue.remove(ticket);
+        updateHighestWaitingPriority();
+        if (ticket.started) {
+            // Its thread is waiting in yieldIfPreempted().
+            ticket.resumed = true;
+            notifyAll();
+        }
+    }
+
+    private synchronized void finish(Ticket<?> ticket) {
+        if (ticket.active) {
+            ticket.active = false;
+            activeCount--;
+        }
+        threadCount--;
+        activateWaitingTickets();
+    }
+
+    private void activateWaitingTickets() {
+        while (activeCount < parallelSolverCount && !waitingQueue.isEmpty()) {
+            var ticket = waitingQueue.poll();
+            if (ticket.future.isCancelled()) {
+                continue;
+            }
+            ticket.active = true;
+            activeCount++;
+            if (ticket.started) {
+                // Its thread is waiting in yieldIfPreempted().
+                notifyAll();
+            } else {
+                ticket.started = true;
+                threadCount++;
+                executorService.execute(ticket::run);
+            }
+        }
+        updateHighestWaitingPriority();
+    }
+
+    private void updateHighestWaitingPriority() {
+        var nextTicket = waitingQueue.peek();
+        highestWaitingPriority = nextTicket == null ? Integer.MIN_VALUE : nextTicket.priority;
+    }
+
+    synchronized void shutdown() {
+        waitingQueue.clear();
+        updateHighestWaitingPriority();
+        // Also interrupts the yielded jobs.
+        executorService.shutdownNow();
+    }
+
+    private final class Ticket<T> {
+
+        private final Callable<T> job;
+        private final FutureTask<T> future;
+        private final int priority;
+        private final long sequence;
+        private final DefaultSolver<?> solver;
+
+        private boolean started = false;
+        private boolean active = false;
+        private boolean resumed = false;
+
+        private Ticket(Callable<T> job, int priority, long sequence, DefaultSolver<?> solver) {
+            this.job = job;
+            this.future = new FutureTask<>(job) {
+                @Override
+                protected void done() {
+                    if (isCancelled()) {
+                        cancelled(Ticket.this);
+                    }
+                }
+            };
+            this.priority = priority;
+            this.sequence = sequence;
+            this.solver = solver;
+        }
+
+        private void run() {
+            try {
+                future.run();
+            } finally {
+                finish(this);
+            }
+        }
+
+    }
+
+}
@@ -87,6 +87,8 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         stepScope.setBestScoreImproved(bestScoreImproved);
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
+            // Cloned eagerly, because the event listeners need the new best solution right away
+            // and the best solution is read from other threads.
             var newBestSolution = stepScope.cloneWorkingSolution();
             var innerScore = buildInnerScore(solverScope.getSolutionDescriptor().<Score_> getScore(newBestSolution),
                     stepScope.getScoreDirector().getWorkingInitScore(), true);
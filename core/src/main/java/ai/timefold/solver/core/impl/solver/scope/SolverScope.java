@@ -12,6 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
@@ -58,6 +59,11 @@ public class SolverScope<Solution_> {
      * Used for capping CPU power usage in multithreaded scenarios.
      */
     private Semaphore runnableThreadSemaphore = null;
+    /**
+     * Used by the SolverManager to let a solver job with a higher priority use this solver's thread.
+     * Returns true if this solver was paused.
+     */
+    private BooleanSupplier yieldingCallback = null;
 
     private long childThreadsScoreCalculationCount = 0L;
 
@@ -160,10 +166,18 @@ public class SolverScope<Solution_> {
         this.scoreDirector = scoreDirector;
     }
 
+    /**
+     * @deprecated The solver no longer uses it; use {@link #setYieldingCallback(BooleanSupplier)} instead.
+     */
+    @Deprecated(forRemoval = true)
     public void setRunnableThreadSemaphore(Semaphore runnableThreadSemaphore) {
         this.runnableThreadSemaphore = runnableThreadSemaphore;
     }
 
+    public void setYieldingCallback(BooleanSupplier yieldingCallback) {
+        this.yieldingCallback = yieldingCallback;
+    }
+
     public Long getStartingSystemTimeMillis() {
         return readAtomicLongTimeMillis(startingSystemTimeMillis);
     }
@@ -364,12 +378,15 @@ public class SolverScope<Solution_> {
         return childThreadSolverScope;
     }
 
+    /**
+     * @deprecated The solver no longer uses it; use {@link #setYieldingCallback(BooleanSupplier)} instead.
+     */
+    @Deprecated(forRemoval = true)
     public void initializeYielding() {
         if (runnableThreadSemaphore != null) {
             try {
                 runnableThreadSemaphore.acquire();
             } catch (InterruptedException e) {
-                // TODO it will take a while before the BasicPlumbingTermination is called
                 // The BasicPlumbingTermination will terminate the solver.
                 Thread.currentThread().interrupt();
             }
@@ -377,15 +394,19 @@ public class SolverScope<Solution_> {
     }
 
     /**
-     * Similar to {@link Thread#yield()}, but allows capping the number of active solver threads
-     * at less than the CPU processor count, so other threads (for example servlet threads that handle REST calls)
-     * and other processes (such as SSH) have access to uncontested CPUs and don't suffer any latency.
+     * Similar to {@link Thread#yield()}, but allows the SolverManager to pause this solver at a step boundary
+     * while a solver job with a higher priority uses its solver thread.
      * <p>
      * Needs to be called <b>before</b> {@link PhaseTermination#isPhaseTerminated(AbstractPhaseScope)},
      * so the decision to start a new iteration is after any yield waiting time has been consumed
      * (so {@link Solver#terminateEarly()} reacts immediately).
+     * <p>
+     * The time during which this solver was paused does not count as time spent,
+     * neither for the solver nor for the phase, so it does not bring any time-based termination closer.
+     *
+     * @param phaseScope the phase which is running
      */
-    public void checkYielding() {
+    public void checkYielding(AbstractPhaseScope<Solution_> phaseScope) {
         if (runnableThreadSemaphore != null) {
             runnableThreadSemaphore.release();
             try {
@@ -395,8 +416,23 @@ public class SolverScope<Solution_> {
                 Thread.currentThread().interrupt();
             }
         }
+        if (yieldingCallback != null) {
+            var pauseStartingTimeMillis = getClock().millis();
+            if (yieldingCallback.getAsBoolean()) {
+                var pausedTimeMillis = getClock().millis() - pauseStartingTimeMillis;
+                startingSystemTimeMillis.addAndGet(pausedTimeMillis);
+                if (bestSolutionTimeMillis != null) {
+                    bestSolutionTimeMillis += pausedTimeMillis;
+                }
+                phaseScope.excludePausedTime(pausedTimeMillis);
+            }
+        }
     }
 
+    /**
+     * @deprecated The solver no longer uses it; use {@link #setYieldingCallback(BooleanSupplier)} instead.
+     */
+    @Deprecated(forRemoval = true)
     public void destroyYielding() {
         if (runnableThreadSemaphore != null) {
             runnableThreadSemaphore.release();
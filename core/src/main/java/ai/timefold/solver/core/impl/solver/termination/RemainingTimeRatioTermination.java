@@ -0,0 +1,88 @@
+package ai.timefold.solver.core.impl.solver.termination;
+
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Terminates the phase once it has used up a ratio of what remained of the solver's time when the phase started.
+ * The solver's time is measured by the timeGradient of the solver termination,
+ * so this termination never terminates if the solver termination cannot calculate a timeGradient.
+ * <p>
+ * For example, with a ratio of 0.5 and a solver spent limit of 10 minutes,
+ * a phase which starts after 2 minutes terminates after 6 minutes,
+ * leaving the other 4 minutes to the phases after it.
+ */
+@NullMarked
+final class RemainingTimeRatioTermination<Solution_>
+        extends AbstractPhaseTermination<Solution_>
+        implements ChildThreadSupportingTermination<Solution_, SolverScope<Solution_>> {
+
+    private final double remainingTimeRatio;
+
+    private double phaseStartingSolverTimeGradient = -1.0;
+
+    public RemainingTimeRatioTermination(double remainingTimeRatio) {
+        if (!(remainingTimeRatio > 0.0 && remainingTimeRatio <= 1.0)) {
+            throw new IllegalArgumentException("The remainingTimeRatio (%s) must be greater than 0.0 and at most 1.0."
+                    .formatted(remainingTimeRatio));
+        }
+        this.remainingTimeRatio = remainingTimeRatio;
+    }
+
+    public double getRemainingTimeRatio() {
+        return remainingTimeRatio;
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        phaseStartingSolverTimeGradient = calculateSolverTimeGradient(phaseScope.getSolverScope());
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        phaseStartingSolverTimeGradient = -1.0;
+    }
+
+    private static <Solution_> double calculateSolverTimeGradient(SolverScope<Solution_> solverScope) {
+        var solver = solverScope.getSolver();
+        // Partitioned search runs its parts without a solver.
+        return solver == null ? -1.0 : solver.calculateTimeGradient(solverScope);
+    }
+
+    @Override
+    public boolean isPhaseTerminated(AbstractPhaseScope<Solution_> phaseScope) {
+        return calculatePhaseTimeGradient(phaseScope) >= 1.0;
+    }
+
+    @Override
+    public double calculatePhaseTimeGradient(AbstractPhaseScope<Solution_> phaseScope) {
+        if (phaseStartingSolverTimeGradient < 0.0) {
+            return -1.0;
+        }
+        var solverTimeGradient = calculateSolverTimeGradient(phaseScope.getSolverScope());
+        if (solverTimeGradient < 0.0) {
+            return -1.0;
+        }
+        var phaseTimeSpan = remainingTimeRatio * (1.0 - phaseStartingSolverTimeGradient);
+        if (phaseTimeSpan <= 0.0) {
+            return 1.0;
+        }
+        var timeGradient = (solverTimeGradient - phaseStartingSolverTimeGradient) / phaseTimeSpan;
+        return Math.clamp(timeGradient, 0.0, 1.0);
+    }
+
+    @Override
+    public Termination<Solution_> createChildThreadTermination(SolverScope<Solution_> solverScope,
+            ChildThreadType childThreadType) {
+        return new RemainingTimeRatioTermination<>(remainingTimeRatio);
+    }
+
+    @Override
+    public String toString() {
+        return "RemainingTimeRatio(" + remainingTimeRatio + ")";
+    }
+
+}
@@ -89,6 +89,9 @@ public final class TerminationFactory<Solution_> {
         if (terminationConfig.getMoveCountLimit() != null) {
             terminationList.add(new MoveCountTermination<>(terminationConfig.getMoveCountLimit()));
         }
+        if (terminationConfig.getRemainingTimeRatio() != null) {
+            terminationList.add(new RemainingTimeRatioTermination<>(terminationConfig.getRemainingTimeRatio()));
+        }
         terminationList.addAll(buildInnerTermination(configPolicy));
         return buildTerminationFromList(terminationList);
     }
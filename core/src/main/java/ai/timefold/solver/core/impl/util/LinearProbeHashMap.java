@@ -0,0 +1,233 @@
+package ai.timefold.solver.core.impl.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An open-addressing hash map with linear probing,
+ * intended for the hot paths of Bavet where {@link java.util.HashMap} lookups dominate.
+ * Unlike {@link java.util.HashMap}, it does not allocate an entry object per key;
+ * keys, values and key hashes are stored in flat arrays next to each other,
+ * so that a lookup typically touches a single cache line per array.
+ * Removal uses backward shift deletion, so the map never accumulates tombstones.
+ * <p>
+ * Only the operations needed by Bavet are supported; it does not implement {@link java.util.Map}.
+ * Null keys are supported, null values are not.
+ *
+ * @param <Key_> the type of the keys
+ * @param <Value_> the type of the values
+ */
+@NullMarked
+public final class LinearProbeHashMap<Key_, Value_> {
+
+    /**
+     * The same as the default initial capacity of a {@link java.util.HashMap}.
+     * We have no good way of estimating the number of keys up-front,
+     * and the number of keys can be very small.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Stands in for the null key, as null in {@link #keys} marks an empty slot.
+     */
+    private static final Object NULL_KEY = new Object();
+
+    private @Nullable Object[] keys;
+    private @Nullable Object[] values;
+    private int[] hashes;
+    private int mask;
+    private int size = 0;
+
+    public LinearProbeHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity will be rounded up to the next power of two
+     */
+    public LinearProbeHashMap(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("The initialCapacity (%d) must be positive."
+                    .formatted(initialCapacity));
+        }
+        var capacity = Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1;
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    private static int hash(Object maskedKey) {
+        // The multiplication spreads consecutive hash codes, which are common with ints and enums.
+        var hash = maskedKey.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static Object maskNull(@Nullable Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static boolean isEqual(Object maskedKey, @Nullable Object storedKey) {
+        return maskedKey == storedKey || maskedKey.equals(storedKey);
+    }
+
+    private int findIndex(Object maskedKey, int hash) {
+        var index = hash & mask;
+        while (true) {
+            var storedKey = keys[index];
+            if (storedKey == null) {
+                return -1;
+            } else if (hashes[index] == hash && isEqual(maskedKey, storedKey)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable Value_ get(@Nullable Object key) {
+        if (size == 0) {
+            return null;
+        }
+        var maskedKey = maskNull(key);
+        var index = findIndex(maskedKey, hash(maskedKey));
+        return index < 0 ? null : (Value_) values[index];
+    }
+
+    /**
+     * @param key may be null
+     * @param value never null
+     * @return the previous value associated with the key, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable Value_ put(@Nullable Key_ key, Value_ value) {
+        Objects.requireNonNull(value, "value");
+        var maskedKey = maskNull(key);
+        var hash = hash(maskedKey);
+        var index = hash & mask;
+        while (true) {
+            var storedKey = keys[index];
+            if (storedKey == null) {
+                keys[index] = maskedKey;
+                values[index] = value;
+                hashes[index] = hash;
+                size++;
+                // Keep the load factor at most 0.5; see EqualIndexer for the reasoning.
+                if (size > (mask >> 1)) {
+                    resize();
+                }
+                return null;
+            } else if (hashes[index] == hash && isEqual(maskedKey, storedKey)) {
+                var oldValue = (Value_) values[index];
+                values[index] = value;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldValues = values;
+        var oldHashes = hashes;
+        var newCapacity = oldKeys.length << 1;
+        keys = new Object[newCapacity];
+        values = new Object[newCapacity];
+        hashes = new int[newCapacity];
+        mask = newCapacity - 1;
+        for (var i = 0; i < oldKeys.length; i++) {
+            var key = oldKeys[i];
+            if (key == null) {
+                continue;
+            }
+            var hash = oldHashes[i];
+            var index = hash & mask;
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = oldValues[i];
+            hashes[index] = hash;
+        }
+    }
+
+    /**
+     * @param key may be null
+     * @return the value that was associated with the key, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable Value_ remove(@Nullable Object key) {
+        if (size == 0) {
+            return null;
+        }
+        var maskedKey = maskNull(key);
+        var index = findIndex(maskedKey, hash(maskedKey));
+        if (index < 0) {
+            return null;
+        }
+        var oldValue = (Value_) values[index];
+        size--;
+        // Backward shift deletion: move later entries of the same probe sequence into the gap.
+        var gap = index;
+        var next = (gap + 1) & mask;
+        while (keys[next] != null) {
+            var idealIndex = hashes[next] & mask;
+            if (((next - idealIndex) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                hashes[gap] = hashes[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = null;
+        values[gap] = null;
+        return oldValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Used for testing.
+     */
+    int capacity() {
+        return keys.length;
+    }
+
+    @Override
+    public String toString() {
+        var out = new StringBuilder("{");
+        var isFirst = true;
+        for (var i = 0; i < keys.length; i++) {
+            var key = keys[i];
+            if (key == null) {
+                continue;
+            }
+            if (isFirst) {
+                isFirst = false;
+            } else {
+                out.append(", ");
+            }
+            out.append(key == NULL_KEY ? null : key).append("=").append(values[i]);
+        }
+        return out.append("}").toString();
+    }
+
+}
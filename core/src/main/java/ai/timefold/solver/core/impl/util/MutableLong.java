@@ -5,6 +5,11 @@ import java.util.Objects;
 public final class MutableLong extends Number implements Comparable<MutableLong> {
 
     private long value;
+    /**
+     * Last result of {@link #boxedValue()}.
+     * With compressed oops, this field fits into the object's alignment padding and costs no memory.
+     */
+    private Long boxedValue;
 
     public MutableLong() {
         this(0L);
@@ -36,6 +41,23 @@ public final class MutableLong extends Number implements Comparable<MutableLong>
         return value;
     }
 
+    /**
+     * Unlike autoboxing {@link #longValue()},
+     * this does not allocate a new {@link Long} as long as the value did not change since the previous call.
+     * Constraint collectors use this as their finisher,
+     * which is called every time a group is propagated, even if its result did not change.
+     *
+     * @return the current value, boxed
+     */
+    public Long boxedValue() {
+        var boxed = boxedValue;
+        if (boxed == null || boxed != value) {
+            boxed = value;
+            boxedValue = boxed;
+        }
+        return boxed;
+    }
+
     @Override
     public int intValue() {
         return (int) value;
@@ -1004,6 +1004,239 @@ class SolverManagerTest {
         }
     }
 
+    @Test
+    @Timeout(60)
+    void solveWithPriority() throws InterruptedException, ExecutionException {
+        var startedLatch = new CountDownLatch(1);
+        var releaseLatch = new CountDownLatch(1);
+        var startedCodeList = Collections.synchronizedList(new ArrayList<String>());
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        (PhaseCommand<TestdataSolution>) context -> {
+                            var code = context.getWorkingSolution().getCode();
+                            startedCodeList.add(code);
+                            if (code.equals("s1")) {
+                                startedLatch.countDown();
+                                try {
+                                    releaseLatch.await();
+                                } catch (InterruptedException e) {
+                                    fail("Latch failed.");
+                                }
+                            }
+                        }));
+        try (var solverManager = createSolverManagerWithOneSolver(solverConfig)) {
+            var solverJob1 = solveWithPriority(solverManager, 1L, "s1", 2);
+            startedLatch.await();
+            var solverJob2 = solveWithPriority(solverManager, 2L, "s2", 0);
+            var solverJob3 = solveWithPriority(solverManager, 3L, "s3", 1);
+            var solverJob4 = solveWithPriority(solverManager, 4L, "s4", 1);
+            assertThat(solverJob2.getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+            assertThat(solverJob3.getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+            assertThat(solverJob4.getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+            releaseLatch.countDown();
+            for (var solverJob : List.of(solverJob1, solverJob2, solverJob3, solverJob4)) {
+                solverJob.getFinalBestSolution();
+            }
+            // The highest priority first, and the same priority in the order of submission.
+            assertThat(startedCodeList).containsExactly("s1", "s3", "s4", "s2");
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void solveWithHigherPriorityPreemptsAtStepBoundary() throws InterruptedException, ExecutionException {
+        var startedLatch = new CountDownLatch(1);
+        var releaseLatch = new CountDownLatch(1);
+        var stepList = Collections.synchronizedList(new ArrayList<String>());
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        (PhaseCommand<TestdataSolution>) context -> {
+                            var code = context.getWorkingSolution().getCode();
+                            stepList.add("first " + code);
+                            if (code.equals("s1")) {
+                                startedLatch.countDown();
+                                try {
+                                    releaseLatch.await();
+                                } catch (InterruptedException e) {
+                                    fail("Latch failed.");
+                                }
+                            }
+                        },
+                        (PhaseCommand<TestdataSolution>) context -> stepList
+                                .add("second " + context.getWorkingSolution().getCode())));
+        try (var solverManager = createSolverManagerWithOneSolver(solverConfig)) {
+            var solverJob1 = solveWithPriority(solverManager, 1L, "s1", 0);
+            startedLatch.await();
+            var solverJob2 = solveWithPriority(solverManager, 2L, "s2", 1);
+            releaseLatch.countDown();
+            solverJob2.getFinalBestSolution();
+            solverJob1.getFinalBestSolution();
+            assertThat(stepList).containsExactly("first s1", "first s2", "second s2", "second s1");
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void terminateEarlyPreemptedJob() throws InterruptedException, ExecutionException {
+        var startedLatchMap = Map.of("s1", new CountDownLatch(1), "s2", new CountDownLatch(1));
+        var releaseLatchMap = Map.of("s1", new CountDownLatch(1), "s2", new CountDownLatch(1));
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        (PhaseCommand<TestdataSolution>) context -> {
+                            var code = context.getWorkingSolution().getCode();
+                            startedLatchMap.get(code).countDown();
+                            try {
+                                releaseLatchMap.get(code).await();
+                            } catch (InterruptedException e) {
+                                fail("Latch failed.");
+                            }
+                        },
+                        (PhaseCommand<TestdataSolution>) context -> {
+                            // Only there for the step boundary at which the first job yields.
+                        }));
+        try (var solverManager = createSolverManagerWithOneSolver(solverConfig)) {
+            var solverJob1 = solveWithPriority(solverManager, 1L, "s1", 0);
+            startedLatchMap.get("s1").await();
+            var solverJob2 = solveWithPriority(solverManager, 2L, "s2", 1);
+            releaseLatchMap.get("s1").countDown();
+            // The first job yielded the only solver thread to the second job.
+            startedLatchMap.get("s2").await();
+            assertThat(solverJob1.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+            // Returns without waiting for the second job to finish.
+            solverJob1.terminateEarly();
+            assertThat(solverJob1.getSolverStatus()).isEqualTo(NOT_SOLVING);
+            assertThat(solverJob1.isTerminatedEarly()).isTrue();
+            assertThat(solverJob2.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+            releaseLatchMap.get("s2").countDown();
+            solverJob2.getFinalBestSolution();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void terminateEarlyScheduledJobDoesNotPreempt() throws InterruptedException, ExecutionException {
+        var startedLatch = new CountDownLatch(1);
+        var releaseLatch = new CountDownLatch(1);
+        var stepList = Collections.synchronizedList(new ArrayList<String>());
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        (PhaseCommand<TestdataSolution>) context -> {
+                            var code = context.getWorkingSolution().getCode();
+                            stepList.add("first " + code);
+                            if (code.equals("s1")) {
+                                startedLatch.countDown();
+                                try {
+                                    releaseLatch.await();
+                                } catch (InterruptedException e) {
+                                    fail("Latch failed.");
+                                }
+                            }
+                        },
+                        (PhaseCommand<TestdataSolution>) context -> stepList
+                                .add("second " + context.getWorkingSolution().getCode())));
+        try (var solverManager = createSolverManagerWithOneSolver(solverConfig)) {
+            var solverJob1 = solveWithPriority(solverManager, 1L, "s1", 0);
+            startedLatch.await();
+            var solverJob2 = solveWithPriority(solverManager, 2L, "s2", 1);
+            solverJob2.terminateEarly();
+            assertThat(solverJob2.getSolverStatus()).isEqualTo(NOT_SOLVING);
+            releaseLatch.countDown();
+            solverJob1.getFinalBestSolution();
+            // The cancelled job never starts, so the first job does not yield to it.
+            assertThat(stepList).containsExactly("first s1", "second s1");
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void solveWithHigherPriorityYieldsAtMostParallelSolverCountJobs() throws InterruptedException, ExecutionException {
+        var startedLatchMap = Map.of("s1", new CountDownLatch(1), "s2", new CountDownLatch(1));
+        var releaseLatchMap = Map.of("s1", new CountDownLatch(1), "s2", new CountDownLatch(1));
+        var stepList = Collections.synchronizedList(new ArrayList<String>());
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        (PhaseCommand<TestdataSolution>) context -> {
+                            var code = context.getWorkingSolution().getCode();
+                            stepList.add("first " + code);
+                            if (startedLatchMap.containsKey(code)) {
+                                startedLatchMap.get(code).countDown();
+                                try {
+                                    releaseLatchMap.get(code).await();
+                                } catch (InterruptedException e) {
+                                    fail("Latch failed.");
+                                }
+                            }
+                        },
+                        (PhaseCommand<TestdataSolution>) context -> stepList
+                                .add("second " + context.getWorkingSolution().getCode())));
+        try (var solverManager = createSolverManagerWithOneSolver(solverConfig)) {
+            var solverJob1 = solveWithPriority(solverManager, 1L, "s1", 0);
+            startedLatchMap.get("s1").await();
+            var solverJob2 = solveWithPriority(solverManager, 2L, "s2", 1);
+            releaseLatchMap.get("s1").countDown();
+            startedLatchMap.get("s2").await();
+            var solverJob3 = solveWithPriority(solverManager, 3L, "s3", 2);
+            releaseLatchMap.get("s2").countDown();
+            solverJob3.getFinalBestSolution();
+            solverJob2.getFinalBestSolution();
+            solverJob1.getFinalBestSolution();
+            // The first job yielded already, so the second job does not yield to the third job.
+            assertThat(stepList).containsExactly("first s1", "first s2", "second s2", "first s3", "second s3", "second s1");
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void solveWithHigherPriorityExcludesPausedTimeOfYieldedJob() throws InterruptedException, ExecutionException {
+        var startedLatch = new CountDownLatch(1);
+        var releaseLatch = new CountDownLatch(1);
+        var stepList = Collections.synchronizedList(new ArrayList<String>());
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        (PhaseCommand<TestdataSolution>) context -> {
+                            var code = context.getWorkingSolution().getCode();
+                            stepList.add("first " + code);
+                            try {
+                                if (code.equals("s1")) {
+                                    startedLatch.countDown();
+                                    releaseLatch.await();
+                                } else {
+                                    // Outlasts the spent limit of the first job.
+                                    Thread.sleep(1000L);
+                                }
+                            } catch (InterruptedException e) {
+                                fail("Latch failed.");
+                            }
+                        },
+                        (PhaseCommand<TestdataSolution>) context -> stepList
+                                .add("second " + context.getWorkingSolution().getCode())));
+        try (var solverManager = createSolverManagerWithOneSolver(solverConfig)) {
+            var solverJob1 = solverManager.solveBuilder()
+                    .withProblemId(1L)
+                    .withProblem(PlannerTestUtils.generateTestdataSolution("s1"))
+                    .withConfigOverride(new SolverConfigOverride()
+                            .withTerminationConfig(new TerminationConfig().withSpentLimit(Duration.ofMillis(500L))))
+                    .run();
+            startedLatch.await();
+            var solverJob2 = solveWithPriority(solverManager, 2L, "s2", 1);
+            releaseLatch.countDown();
+            solverJob2.getFinalBestSolution();
+            solverJob1.getFinalBestSolution();
+            // The spent limit of the first job passed while it was yielded, but that time does not count.
+            assertThat(stepList).containsExactly("first s1", "first s2", "second s2", "second s1");
+            assertThat(solverJob1.getSolvingDuration()).isLessThan(Duration.ofMillis(1000L));
+        }
+    }
+
+    private static SolverJob<TestdataSolution> solveWithPriority(SolverManager<TestdataSolution> solverManager,
+            Long problemId, String code, int priority) {
+        return solverManager.solveBuilder()
+                .withProblemId(problemId)
+                .withProblem(PlannerTestUtils.generateTestdataSolution(code))
+                .withPriority(priority)
+                .run();
+    }
+
     private void assertInitializedJobs(List<SolverJob<TestdataSolution>> jobs)
             throws InterruptedException, ExecutionException {
         for (var job : jobs) {
@@ -0,0 +1,53 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+
+import org.junit.jupiter.api.Test;
+
+class TupleQueueTest {
+
+    @Test
+    void processInOrderAndClear() {
+        var queue = new TupleQueue<UniTuple<String>>(1);
+        assertThat(queue.isEmpty()).isTrue();
+        var tupleList = new ArrayList<UniTuple<String>>();
+        for (var i = 0; i < 100; i++) { // Forces the queue to grow.
+            var tuple = UniTuple.of("Tuple " + i, 0);
+            tupleList.add(tuple);
+            queue.add(tuple);
+        }
+        assertThat(queue.isEmpty()).isFalse();
+
+        var processedList = new ArrayList<UniTuple<String>>();
+        queue.processAndClear(processedList::add);
+        assertThat(processedList).containsExactlyElementsOf(tupleList);
+        assertThat(queue.isEmpty()).isTrue();
+
+        processedList.clear();
+        queue.processAndClear(processedList::add);
+        assertThat(processedList).isEmpty();
+    }
+
+    @Test
+    void processTuplesAddedDuringProcessing() {
+        var queue = new TupleQueue<UniTuple<String>>(16);
+        var first = UniTuple.of("first", 0);
+        var second = UniTuple.of("second", 0);
+        queue.add(first);
+
+        var processedList = new ArrayList<UniTuple<String>>();
+        queue.processAndClear(tuple -> {
+            processedList.add(tuple);
+            if (tuple == first) {
+                queue.add(second);
+            }
+        });
+        assertThat(processedList).containsExactly(first, second);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+}
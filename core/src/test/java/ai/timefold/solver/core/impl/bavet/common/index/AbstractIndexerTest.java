@@ -18,17 +18,17 @@ abstract class AbstractIndexerTest {
 
     private static final AtomicLong tupleId = new AtomicLong();
 
-    protected static UniTuple<String> putTuple(Indexer<Object> indexer, Object... keys) {
+    protected static UniTuple<String> putTuple(Indexer<UniTuple<String>> indexer, Object... keys) {
         var tuple = UniTuple.of("Tuple " + tupleId.getAndIncrement(), 0);
         indexer.put(CompositeKey.ofMany(keys), tuple);
         return tuple;
     }
 
-    protected static AbstractIntegerAssert<?> assertSize(Indexer<Object> indexer, Object... keys) {
+    protected static AbstractIntegerAssert<?> assertSize(Indexer<UniTuple<String>> indexer, Object... keys) {
         return assertThat(indexer.size(CompositeKey.ofMany(keys)));
     }
 
-    protected static ListAssert<Object> assertForEach(Indexer<Object> indexer, Object... keys) {
+    protected static ListAssert<Object> assertForEach(Indexer<UniTuple<String>> indexer, Object... keys) {
         var properties = switch (keys.length) {
             case 0 -> CompositeKey.none();
             case 1 -> CompositeKey.of(keys[0]);
@@ -50,11 +50,11 @@ abstract class AbstractIndexerTest {
         return result;
     }
 
-    static Iterable<Object> randomIterableForQuery(Indexer<Object> indexer, String key) {
+    static Iterable<Object> randomIterableForQuery(Indexer<UniTuple<String>> indexer, String key) {
         return randomIterableForQuery(indexer, 0, key);
     }
 
-    private static Iterable<Object> randomIterableForQuery(Indexer<Object> indexer, long seed, String key) {
+    private static Iterable<Object> randomIterableForQuery(Indexer<UniTuple<String>> indexer, long seed, String key) {
         return () -> {
             var random = new Random(seed);
             var delegate = indexer.randomIterator(key, random);
@@ -75,17 +75,17 @@ abstract class AbstractIndexerTest {
         };
     }
 
-    static List<Object> randomListForQuery(Indexer<Object> indexer, long seed, String key) {
+    static List<Object> randomListForQuery(Indexer<UniTuple<String>> indexer, long seed, String key) {
         var iterable = randomIterableForQuery(indexer, seed, key);
         return StreamSupport.stream(iterable.spliterator(), false)
                 .toList();
     }
 
-    static Iterable<Object> randomIterableForCollectionQuery(Indexer<Object> indexer, String... keys) {
+    static Iterable<Object> randomIterableForCollectionQuery(Indexer<UniTuple<String>> indexer, String... keys) {
         return randomIterableForCollectionQuery(indexer, 0, keys);
     }
 
-    private static Iterable<Object> randomIterableForCollectionQuery(Indexer<Object> indexer, long seed, String... keys) {
+    private static Iterable<Object> randomIterableForCollectionQuery(Indexer<UniTuple<String>> indexer, long seed, String... keys) {
         return () -> {
             var random = new Random(seed);
             var delegate = indexer.randomIterator(List.of(keys), random);
@@ -106,19 +106,19 @@ abstract class AbstractIndexerTest {
         };
     }
 
-    static List<Object> randomListForCollectionQuery(Indexer<Object> indexer, long seed, String... keys) {
+    static List<Object> randomListForCollectionQuery(Indexer<UniTuple<String>> indexer, long seed, String... keys) {
         var iterable = randomIterableForCollectionQuery(indexer, seed, keys);
         return StreamSupport.stream(iterable.spliterator(), false)
                 .toList();
     }
 
-    static UniTuple<String> putContainingIndexer(Indexer<Object> indexer, List<String> keys) {
+    static UniTuple<String> putContainingIndexer(Indexer<UniTuple<String>> indexer, List<String> keys) {
         var tuple = UniTuple.of("Tuple " + tupleId.getAndIncrement(), 0);
         indexer.put(keys, tuple);
         return tuple;
     }
 
-    static UniTuple<String> putContainedInIndexer(Indexer<Object> indexer, String key) {
+    static UniTuple<String> putContainedInIndexer(Indexer<UniTuple<String>> indexer, String key) {
         var tuple = UniTuple.of("Tuple " + tupleId.getAndIncrement(), 0);
         indexer.put(key, tuple);
         return tuple;
@@ -25,13 +25,13 @@ class ContainedInIndexerTest extends AbstractIndexerTest {
 
     @Test
     void isRemovable() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
         assertThat(indexer.isRemovable()).isTrue();
     }
 
     @Test
     void size() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
 
         assertSize(indexer, List.of("X"), "1").isEqualTo(0);
 
@@ -63,7 +63,7 @@ class ContainedInIndexerTest extends AbstractIndexerTest {
 
     @Test
     void removeTwice() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
         var annEntry = indexer.put(CompositeKey.ofMany("X", "1"), UniTuple.of("Ann", 0));
 
         indexer.remove(CompositeKey.ofMany("X", "1"), annEntry);
@@ -73,7 +73,7 @@ class ContainedInIndexerTest extends AbstractIndexerTest {
 
     @Test
     void forEach() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
 
         var annX1 = putTuple(indexer, "X", "1");
         var bethY1 = putTuple(indexer, "Y", "1");
@@ -100,7 +100,7 @@ class ContainedInIndexerTest extends AbstractIndexerTest {
 
     @Test
     void forEach_containCombo() {
-        var indexer = new IndexerFactory<>(containComboJoiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(containComboJoiner).<UniTuple<String>> buildIndexer(true);
 
         var annX12 = putTuple(indexer, "X", List.of("1", "2"));
         var bethY13 = putTuple(indexer, "Y", List.of("1", "2"));
@@ -115,7 +115,7 @@ class ContainedInIndexerTest extends AbstractIndexerTest {
 
     @Test
     void randomIterator() {
-        var indexer = new IndexerFactory<>(randomAccessSingleJoiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(randomAccessSingleJoiner).<UniTuple<String>> buildIndexer(true);
 
         var annX1 = putContainedInIndexer(indexer, "X");
         var annY1 = putContainedInIndexer(indexer, "Y");
@@ -26,7 +26,7 @@ class ContainingAnyOfIndexerTest extends AbstractIndexerTest {
 
     @Test
     void isRemovable() {
-        var indexer = new IndexerFactory<>(multiJoiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(multiJoiner).<UniTuple<String>> buildIndexer(true);
 
         assertThat(indexer.isRemovable()).isTrue();
 
@@ -37,7 +37,7 @@ class ContainingAnyOfIndexerTest extends AbstractIndexerTest {
 
     @Test
     void size() {
-        var indexer = new IndexerFactory<>(multiJoiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(multiJoiner).<UniTuple<String>> buildIndexer(true);
 
         assertSize(indexer, List.of(), "1").isEqualTo(0);
         assertSize(indexer, List.of("X", "Y"), "1").isEqualTo(0);
@@ -73,7 +73,7 @@ class ContainingAnyOfIndexerTest extends AbstractIndexerTest {
 
     @Test
     void removeTwice() {
-        var indexer = new IndexerFactory<>(multiJoiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(multiJoiner).<UniTuple<String>> buildIndexer(true);
         var annEntry = indexer.put(CompositeKey.ofMany(List.of("X", "Y"), "1"), UniTuple.of("Ann", 0));
 
         indexer.remove(CompositeKey.ofMany(List.of("X", "Y"), "1"), annEntry);
@@ -83,7 +83,7 @@ class ContainingAnyOfIndexerTest extends AbstractIndexerTest {
 
     @Test
     void removeLastTupleThenReuseKeys() {
-        var indexer = new IndexerFactory<>(multiJoiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(multiJoiner).<UniTuple<String>> buildIndexer(true);
         var annEntry = indexer.put(CompositeKey.ofMany(List.of("X", "Y"), "1"), UniTuple.of("Ann", 0));
 
         indexer.remove(CompositeKey.ofMany(List.of("X", "Y"), "1"), annEntry);
@@ -99,7 +99,7 @@ class ContainingAnyOfIndexerTest extends AbstractIndexerTest {
 
     @Test
     void forEach() {
-        var indexer = new IndexerFactory<>(multiJoiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(multiJoiner).<UniTuple<String>> buildIndexer(true);
 
         var annXY1 = putTuple(indexer, List.of("X", "Y"), "1");
         var bethXZ1 = putTuple(indexer, List.of("X", "Z"), "1");
@@ -125,7 +125,7 @@ class ContainingAnyOfIndexerTest extends AbstractIndexerTest {
 
     @Test
     void forEachDuplicates() {
-        var indexer = new IndexerFactory<>(singleJoiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(singleJoiner).<UniTuple<String>> buildIndexer(true);
         var key = List.of("X");
 
         var duplicate = putContainingIndexer(indexer, key);
@@ -137,7 +137,7 @@ class ContainingAnyOfIndexerTest extends AbstractIndexerTest {
 
     @Test
     void randomIterator() {
-        var indexer = new IndexerFactory<>(randomAccessSingleJoiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(randomAccessSingleJoiner).<UniTuple<String>> buildIndexer(true);
 
         var annXY1 = putContainingIndexer(indexer, List.of("X", "Y"));
         var bethXZ1 = putContainingIndexer(indexer, List.of("X", "Z"));
@@ -24,7 +24,7 @@ class ContainingIndexerTest extends AbstractIndexerTest {
 
     @Test
     void isRemovable() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
 
         assertThat(indexer.isRemovable()).isTrue();
 
@@ -35,7 +35,7 @@ class ContainingIndexerTest extends AbstractIndexerTest {
 
     @Test
     void size() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
 
         assertSize(indexer, "X", "1").isEqualTo(0);
 
@@ -63,7 +63,7 @@ class ContainingIndexerTest extends AbstractIndexerTest {
 
     @Test
     void removeTwice() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
         var annEntry = indexer.put(CompositeKey.ofMany(List.of("X", "Y"), "1"), UniTuple.of("Ann", 0));
 
         indexer.remove(CompositeKey.ofMany(List.of("X", "Y"), "1"), annEntry);
@@ -73,7 +73,7 @@ class ContainingIndexerTest extends AbstractIndexerTest {
 
     @Test
     void removeLastTupleThenReuseKeys() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
         var annEntry = indexer.put(CompositeKey.ofMany(List.of("X", "Y"), "1"), UniTuple.of("Ann", 0));
 
         indexer.remove(CompositeKey.ofMany(List.of("X", "Y"), "1"), annEntry);
@@ -89,7 +89,7 @@ class ContainingIndexerTest extends AbstractIndexerTest {
 
     @Test
     void forEach() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
 
         var annXY1 = putTuple(indexer, List.of("X", "Y"), "1");
         var bethXZ1 = putTuple(indexer, List.of("X", "Z"), "1");
@@ -116,7 +116,7 @@ class ContainingIndexerTest extends AbstractIndexerTest {
 
     @Test
     void forEach_containedInCombo() {
-        var indexer = new IndexerFactory<>(containedInComboJoiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(containedInComboJoiner).<UniTuple<String>> buildIndexer(true);
 
         var annXY1 = putTuple(indexer, List.of("X", "Y"), "1");
         var bethXY2 = putTuple(indexer, List.of("X", "Y"), "2");
@@ -131,7 +131,7 @@ class ContainingIndexerTest extends AbstractIndexerTest {
 
     @Test
     void randomIterator() {
-        var indexer = new IndexerFactory<>(randomAccessSingleJoiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(randomAccessSingleJoiner).<UniTuple<String>> buildIndexer(true);
 
         var annXY1 = putContainingIndexer(indexer, List.of("X", "Y"));
         var bethXZ1 = putContainingIndexer(indexer, List.of("X", "Z"));
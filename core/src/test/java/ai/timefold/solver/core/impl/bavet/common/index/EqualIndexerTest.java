@@ -30,13 +30,13 @@ class EqualIndexerTest extends AbstractIndexerTest {
 
     @Test
     void isRemovable() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
         assertThat(forEachToTuples(indexer, "F", 40)).isEmpty();
     }
 
     @Test
     void put() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
         var annTuple = newTuple("Ann-F-40");
         assertThat(indexer.size(CompositeKey.ofMany("F", 40))).isEqualTo(0);
         indexer.put(CompositeKey.ofMany("F", 40), annTuple);
@@ -45,7 +45,7 @@ class EqualIndexerTest extends AbstractIndexerTest {
 
     @Test
     void removeTwice() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
         var annTuple = newTuple("Ann-F-40");
         var annEntry = indexer.put(CompositeKey.ofMany("F", 40), annTuple);
 
@@ -56,7 +56,7 @@ class EqualIndexerTest extends AbstractIndexerTest {
 
     @Test
     void forEach() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
 
         var annTuple = newTuple("Ann-F-40");
         indexer.put(CompositeKey.ofMany("F", 40), annTuple);
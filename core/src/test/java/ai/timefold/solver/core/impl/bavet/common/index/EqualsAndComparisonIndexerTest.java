@@ -29,13 +29,13 @@ class EqualsAndComparisonIndexerTest extends AbstractIndexerTest {
 
     @Test
     void iEmpty() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
         assertThat(forEachToTuples(indexer, "F", 40)).isEmpty();
     }
 
     @Test
     void put() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
         var annTuple = newTuple("Ann-F-40");
         assertThat(indexer.size(CompositeKey.ofMany("F", 40))).isEqualTo(0);
         indexer.put(CompositeKey.ofMany("F", 40), annTuple);
@@ -44,7 +44,7 @@ class EqualsAndComparisonIndexerTest extends AbstractIndexerTest {
 
     @Test
     void removeTwice() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
         var annTuple = newTuple("Ann-F-40");
         var annEntry = indexer.put(CompositeKey.ofMany("F", 40), annTuple);
 
@@ -55,7 +55,7 @@ class EqualsAndComparisonIndexerTest extends AbstractIndexerTest {
 
     @Test
     void forEach() {
-        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
 
         var annTuple = newTuple("Ann-F-40");
         indexer.put(CompositeKey.ofMany("F", 40), annTuple);
@@ -124,7 +124,7 @@ class FusedEqualIndexTest {
     @Test
     void lazyAllocation_leftOnlyKey_rightNotAllocated() {
         var rightInitCount = new AtomicInteger(0);
-        var index = new FusedEqualIndex<String, String>(
+        var index = new FusedEqualIndex<UniTuple<String>, UniTuple<String>>(
                 KeyUnpacker.single(), // identity: pure-equal, single-component key
                 false, // hasSuffix
                 LinkedListLeafIndexer::new,
@@ -140,7 +140,7 @@ class FusedEqualIndexTest {
                 .isZero();
 
         // still not allocated after putting a left element
-        var leftEntry = bucket.putLeft("X", "leftTuple");
+        var leftEntry = bucket.putLeft("X", tuple("leftTuple"));
         assertThat(rightInitCount.get())
                 .as("right downstream must not be allocated when only left is used")
                 .isZero();
@@ -162,7 +162,7 @@ class FusedEqualIndexTest {
                 .isTrue();
 
         // right IS allocated on first putRight
-        bucket.putRight("X", "rightTuple");
+        bucket.putRight("X", tuple("rightTuple"));
         assertThat(rightInitCount.get())
                 .as("right downstream must be allocated on first putRight")
                 .isEqualTo(1);
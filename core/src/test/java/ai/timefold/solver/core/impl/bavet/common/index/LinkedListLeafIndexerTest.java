@@ -0,0 +1,57 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.util.ArrayList;
+
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.core.impl.util.ListEntry;
+
+import org.junit.jupiter.api.Test;
+
+class LinkedListLeafIndexerTest extends AbstractIndexerTest {
+
+    @Test
+    void tupleIsItsOwnEntry() {
+        var indexer = new LinkedListLeafIndexer<UniTuple<String>>();
+        var annTuple = UniTuple.of("Ann-F-40", 0);
+        var entry = indexer.put(CompositeKey.none(), annTuple);
+        assertThat(entry).isSameAs(annTuple);
+        assertThat(entry.element()).isSameAs(annTuple);
+
+        indexer.remove(CompositeKey.none(), entry);
+        assertSoftly(softly -> {
+            softly.assertThat(indexer.isRemovable()).isTrue();
+            softly.assertThat(forEachToTuples(indexer)).isEmpty();
+        });
+    }
+
+    @Test
+    void keepsInsertionOrderPastInlineCapacity() {
+        var indexer = new LinkedListLeafIndexer<UniTuple<String>>();
+        var tupleCount = LinkedListLeafIndexer.INLINE_CAPACITY * 2;
+        var expectedTupleList = new ArrayList<UniTuple<String>>(tupleCount);
+        var entryList = new ArrayList<ListEntry<UniTuple<String>>>(tupleCount);
+        for (var i = 0; i < tupleCount; i++) {
+            var tuple = UniTuple.of("Tuple " + i, 0);
+            expectedTupleList.add(tuple);
+            entryList.add(indexer.put(CompositeKey.none(), tuple));
+        }
+        assertThat(indexer.size(CompositeKey.none())).isEqualTo(tupleCount);
+        assertThat(forEachToTuples(indexer)).containsExactlyElementsOf(expectedTupleList);
+        assertThat(indexer.iterator(CompositeKey.none())).toIterable().containsExactlyElementsOf(expectedTupleList);
+
+        // Remove one inline and one linked element; a new element must still come last.
+        indexer.remove(CompositeKey.none(), entryList.get(1));
+        expectedTupleList.remove(1);
+        indexer.remove(CompositeKey.none(), entryList.get(tupleCount - 2));
+        expectedTupleList.remove(tupleCount - 3);
+        var lastTuple = UniTuple.of("Last", 0);
+        indexer.put(CompositeKey.none(), lastTuple);
+        expectedTupleList.add(lastTuple);
+        assertThat(forEachToTuples(indexer)).containsExactlyElementsOf(expectedTupleList);
+        assertThat(indexer.iterator(CompositeKey.none())).toIterable().containsExactlyElementsOf(expectedTupleList);
+    }
+
+}
@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import ai.timefold.solver.core.api.score.HardSoftScore;
 import ai.timefold.solver.core.api.score.SimpleScore;
@@ -19,6 +20,7 @@ import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
 import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
 import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.SolverFactory;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
 import ai.timefold.solver.core.config.constructionheuristic.decider.forager.ConstructionHeuristicForagerConfig;
@@ -37,6 +39,7 @@ import ai.timefold.solver.core.config.heuristic.selector.value.ValueSelectorConf
 import ai.timefold.solver.core.config.heuristic.selector.value.ValueSorterManner;
 import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testdomain.TestdataValue;
@@ -67,6 +70,8 @@ import ai.timefold.solver.core.testdomain.list.valuerange.TestdataListEntityProv
 import ai.timefold.solver.core.testdomain.list.valuerange.TestdataListEntityProvidingScoreCalculator;
 import ai.timefold.solver.core.testdomain.list.valuerange.TestdataListEntityProvidingSolution;
 import ai.timefold.solver.core.testdomain.list.valuerange.TestdataListEntityProvidingValue;
+import ai.timefold.solver.core.testdomain.list.valuerange.pinned.TestdataListPinnedEntityProvidingEntity;
+import ai.timefold.solver.core.testdomain.list.valuerange.pinned.TestdataListPinnedEntityProvidingSolution;
 import ai.timefold.solver.core.testdomain.list.valuerange.sort.comparator.ListOneValuePerEntityRangeEasyScoreCalculator;
 import ai.timefold.solver.core.testdomain.list.valuerange.sort.comparator.TestdataListSortableEntityProvidingEntity;
 import ai.timefold.solver.core.testdomain.list.valuerange.sort.comparator.TestdataListSortableEntityProvidingSolution;
@@ -162,6 +167,24 @@ class DefaultConstructionHeuristicPhaseTest {
         assertThat(inputProblem).isNotSameAs(solution);
     }
 
+    @Test
+    void solveNeverYields() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+        var solver = (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig)
+                .buildSolver();
+        var yieldCheckCount = new AtomicInteger();
+        solver.getSolverScope().setYieldingCallback(() -> {
+            yieldCheckCount.incrementAndGet();
+            return false;
+        });
+
+        var solution = solver.solve(PlannerTestUtils.generateTestdataSolution("s1", 3));
+        assertThat(solution.getEntityList()).allSatisfy(entity -> assertThat(entity.getValue()).isNotNull());
+        // A solver job with a higher priority waits until the solution is constructed.
+        assertThat(yieldCheckCount).hasValue(0);
+    }
+
     @Test
     void solveWithPinnedEntities() {
         var solverConfig =
@@ -370,6 +393,157 @@ class DefaultConstructionHeuristicPhaseTest {
                 .hasSameElementsAs(List.of("v3"));
     }
 
+    @Test
+    void solveRegretInsertionListVariable() {
+        var solverConfig = PlannerTestUtils
+                .buildSolverConfig(TestdataListSolution.class, TestdataListEntity.class, TestdataListValue.class)
+                .withEasyScoreCalculatorClass(TestdataListSolutionEasyScoreCalculator.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION));
+        var problem = TestdataListSolution.generateUninitializedSolution(6, 3);
+
+        var solution = PlannerTestUtils.solve(solverConfig, problem, true);
+        assertThat(solution.getEntityList().stream().mapToInt(entity -> entity.getValueList().size()).sum())
+                .isEqualTo(6);
+    }
+
+    @Test
+    void solveRegretInsertionPlacesLargestRegretFirst() {
+        // The first value fits about as well in both entities, but the second value fits much better in the first entity.
+        var firstFitConfig = PlannerTestUtils
+                .buildSolverConfig(TestdataListSolution.class, TestdataListEntity.class, TestdataListValue.class)
+                .withEasyScoreCalculatorClass(TestdataListRegretEasyScoreCalculator.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.FIRST_FIT));
+        var firstFitSolution = PlannerTestUtils.solve(firstFitConfig, generateRegretSolution());
+        // In the order of the value selector, the first value takes the first entity.
+        assertCode("e1", firstFitSolution.getValueList().get(0).getEntity());
+        assertCode("e2", firstFitSolution.getValueList().get(1).getEntity());
+        assertThat(firstFitSolution.getScore()).isEqualTo(SimpleScore.of(-10));
+
+        var regretConfig = PlannerTestUtils
+                .buildSolverConfig(TestdataListSolution.class, TestdataListEntity.class, TestdataListValue.class)
+                .withEasyScoreCalculatorClass(TestdataListRegretEasyScoreCalculator.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION));
+        var regretSolution = PlannerTestUtils.solve(regretConfig, generateRegretSolution());
+        // The second value has the largest regret, so it takes the first entity before the first value.
+        assertCode("e2", regretSolution.getValueList().get(0).getEntity());
+        assertCode("e1", regretSolution.getValueList().get(1).getEntity());
+        assertThat(regretSolution.getScore()).isEqualTo(SimpleScore.of(-1));
+    }
+
+    @Test
+    void solveRegretInsertionOnlyEvaluatesTheEntityWhichReceivedTheLastValue() {
+        var solverConfig = PlannerTestUtils
+                .buildSolverConfig(TestdataListSolution.class, TestdataListEntity.class, TestdataListValue.class)
+                .withEasyScoreCalculatorClass(TestdataListRegretEasyScoreCalculator.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION));
+
+        var solver = (DefaultSolver<TestdataListSolution>) SolverFactory.<TestdataListSolution> create(solverConfig)
+                .buildSolver();
+        solver.solve(generateRegretSolution());
+        // The pool evaluates both values in both empty entities: 4 moves.
+        // After the second value went to the first entity, only the 2 positions of the first entity
+        // are evaluated again for the first value, not the position in the second entity.
+        // The decider evaluates each of the 2 placed moves once more.
+        assertThat(solver.getMoveEvaluationCount()).isEqualTo(4L + 2L + 2L);
+    }
+
+    private static TestdataListSolution generateRegretSolution() {
+        var solution = new TestdataListSolution();
+        solution.setValueList(List.of(new TestdataListValue("v1"), new TestdataListValue("v2")));
+        solution.setEntityList(List.of(new TestdataListEntity("e1"), new TestdataListEntity("e2")));
+        return solution;
+    }
+
+    @Test
+    void solveRegretInsertionWithEntityValueRangeListVariable() {
+        var solverConfig = PlannerTestUtils
+                .buildSolverConfig(TestdataListEntityProvidingSolution.class, TestdataListEntityProvidingEntity.class,
+                        TestdataListEntityProvidingValue.class)
+                .withEasyScoreCalculatorClass(TestdataListEntityProvidingScoreCalculator.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION));
+
+        var value1 = new TestdataListEntityProvidingValue("v1");
+        var value2 = new TestdataListEntityProvidingValue("v2");
+        var value3 = new TestdataListEntityProvidingValue("v3");
+        var entity1 = new TestdataListEntityProvidingEntity("e1", List.of(value1, value2));
+        var entity2 = new TestdataListEntityProvidingEntity("e2", List.of(value2, value3));
+
+        var solution = new TestdataListEntityProvidingSolution();
+        solution.setEntityList(List.of(entity1, entity2));
+
+        var bestSolution = PlannerTestUtils.solve(solverConfig, solution, true);
+        assertThat(bestSolution.getEntityList().get(0).getValueList().stream().map(TestdataListEntityProvidingValue::getCode))
+                .hasSameElementsAs(List.of("v1", "v2"));
+        assertThat(bestSolution.getEntityList().get(1).getValueList().stream().map(TestdataListEntityProvidingValue::getCode))
+                .hasSameElementsAs(List.of("v3"));
+    }
+
+    @Test
+    void solveRegretInsertionLeavesValuesUnassigned() {
+        var solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataAllowsUnassignedListSortableSolution.class)
+                .withEntityClasses(TestdataAllowsUnassignedListSortableEntity.class)
+                .withConstraintProviderClass(ListPenalizeAssignedConstraintProvider.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION));
+        var problem = TestdataAllowsUnassignedListSortableSolution.generateSolution(2, 2, false);
+        var solution = PlannerTestUtils.solve(solverConfig, problem);
+        assertThat(solution.getEntityList()).allSatisfy(entity -> assertThat(entity.getValueList()).isEmpty());
+    }
+
+    @Test
+    void solveRegretInsertionChecksTerminationBeforeEveryValue() {
+        var solverConfig = PlannerTestUtils
+                .buildSolverConfig(TestdataListSolution.class, TestdataListEntity.class, TestdataListValue.class)
+                .withEasyScoreCalculatorClass(TestdataListSolutionEasyScoreCalculator.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION)
+                        .withTerminationConfig(new TerminationConfig().withMoveCountLimit(1L)));
+        var problem = TestdataListSolution.generateUninitializedSolution(6, 3);
+
+        var solver = (DefaultSolver<TestdataListSolution>) SolverFactory.<TestdataListSolution> create(solverConfig)
+                .buildSolver();
+        var solution = solver.solve(problem);
+        // Only the first value was evaluated, in each of the 3 entities, instead of all 6 values.
+        assertThat(solver.getMoveEvaluationCount()).isEqualTo(3L);
+        assertThat(solution.getEntityList()).allSatisfy(entity -> assertThat(entity.getValueList()).isEmpty());
+    }
+
+    @Test
+    void failRegretInsertionValueWithoutMovableEntity() {
+        var solverConfig = PlannerTestUtils
+                .buildSolverConfig(TestdataListPinnedEntityProvidingSolution.class,
+                        TestdataListPinnedEntityProvidingEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION));
+        var v1 = new TestdataValue("v1");
+        var v2 = new TestdataValue("v2");
+        var e1 = new TestdataListPinnedEntityProvidingEntity("e1", List.of(v1, v2));
+        e1.setValueList(new ArrayList<>(List.of(v1)));
+        e1.setPinned(true);
+        var e2 = new TestdataListPinnedEntityProvidingEntity("e2", List.of(v1));
+        var solution = new TestdataListPinnedEntityProvidingSolution();
+        solution.setEntityList(List.of(e1, e2));
+        // The value v2 only fits in the pinned entity.
+        assertThatThrownBy(() -> PlannerTestUtils.solve(solverConfig, solution))
+                .hasMessageContaining("The value (v2) cannot be inserted into any movable entity");
+    }
+
+    @Test
+    void failRegretInsertionBasicVariable() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.REGRET_INSERTION));
+        var solution = TestdataSolution.generateSolution(2, 2);
+        assertThatCode(() -> PlannerTestUtils.solve(solverConfig, solution))
+                .hasMessageContaining("The constructionHeuristicType (REGRET_INSERTION) requires a planning list variable.");
+    }
+
     private static List<ConstructionHeuristicTestConfig> generateCommonConfiguration() {
         var values = new ArrayList<ConstructionHeuristicTestConfig>();
         values.add(new ConstructionHeuristicTestConfig(
@@ -1506,6 +1680,26 @@ class DefaultConstructionHeuristicPhaseTest {
         }
     }
 
+    public static class TestdataListRegretEasyScoreCalculator
+            implements EasyScoreCalculator<TestdataListSolution, SimpleScore> {
+
+        @Override
+        public @NonNull SimpleScore calculateScore(@NonNull TestdataListSolution solution) {
+            var score = 0;
+            for (var entity : solution.getEntityList()) {
+                if (entity.getValueList().size() > 1) {
+                    score -= 100;
+                }
+                if (entity.getCode().equals("e2")) {
+                    for (var value : entity.getValueList()) {
+                        score -= value.getCode().equals("v1") ? 1 : 10;
+                    }
+                }
+            }
+            return SimpleScore.of(score);
+        }
+    }
+
     public static class TestdataSolutionEasyScoreCalculator
             implements EasyScoreCalculator<TestdataSolution, SimpleScore> {
 
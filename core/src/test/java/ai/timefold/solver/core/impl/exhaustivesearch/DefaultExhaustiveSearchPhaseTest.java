@@ -16,6 +16,8 @@ import java.util.List;
 
 import ai.timefold.solver.core.api.score.SimpleScore;
 import ai.timefold.solver.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
+import ai.timefold.solver.core.config.exhaustivesearch.ExhaustiveSearchType;
+import ai.timefold.solver.core.config.exhaustivesearch.NodeExplorationType;
 import ai.timefold.solver.core.impl.exhaustivesearch.decider.BasicVariableExhaustiveSearchDecider;
 import ai.timefold.solver.core.impl.exhaustivesearch.decider.ListVariableExhaustiveSearchDecider;
 import ai.timefold.solver.core.impl.exhaustivesearch.node.ExhaustiveSearchLayer;
@@ -368,6 +370,45 @@ class DefaultExhaustiveSearchPhaseTest {
                 .hasMessageContaining("variable (value");
     }
 
+    @Test
+    void solveBasicVariableWithNodeQueueSizeLimit() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ExhaustiveSearchPhaseConfig()
+                .withNodeExplorationType(NodeExplorationType.BREADTH_FIRST)
+                .withNodeQueueSizeLimit(1)));
+
+        var solution = new TestdataSolution("s1");
+        var v1 = new TestdataValue("v1");
+        var v2 = new TestdataValue("v2");
+        var v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", null),
+                new TestdataEntity("e2", null),
+                new TestdataEntity("e3", null)));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getEntityList())
+                .allSatisfy(entity -> assertThat(entity.getValue()).isNotNull());
+    }
+
+    @Test
+    void failNodeQueueSizeLimitWithBruteForce() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ExhaustiveSearchPhaseConfig()
+                .withExhaustiveSearchType(ExhaustiveSearchType.BRUTE_FORCE)
+                .withNodeQueueSizeLimit(1)));
+
+        var solution = new TestdataSolution("s1");
+        solution.setValueList(List.of(new TestdataValue("v1")));
+        solution.setEntityList(List.of(new TestdataEntity("e1", null)));
+
+        assertThatThrownBy(() -> PlannerTestUtils.solve(solverConfig, solution))
+                .hasMessageContaining("nodeQueueSizeLimit (1)")
+                .hasMessageContaining(ExhaustiveSearchType.BRANCH_AND_BOUND.name());
+    }
+
     @Test
     void solveBasicVariableWithEmptyEntityList() {
         var solverConfig =
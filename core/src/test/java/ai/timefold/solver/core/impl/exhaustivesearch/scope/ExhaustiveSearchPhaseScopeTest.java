@@ -5,7 +5,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.TreeSet;
 
 import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.impl.exhaustivesearch.node.ExhaustiveSearchNode;
 import ai.timefold.solver.core.impl.exhaustivesearch.node.comparator.AbstractNodeComparatorTest;
+import ai.timefold.solver.core.impl.exhaustivesearch.node.comparator.BreadthFirstNodeComparator;
+import ai.timefold.solver.core.impl.exhaustivesearch.node.comparator.DepthFirstNodeComparator;
 import ai.timefold.solver.core.impl.exhaustivesearch.node.comparator.ScoreFirstNodeComparator;
 import ai.timefold.solver.core.impl.score.director.InnerScore;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
@@ -27,4 +30,46 @@ class ExhaustiveSearchPhaseScopeTest extends AbstractNodeComparatorTest {
         assertThat(phase.getExpandableNodeQueue()).hasSize(1);
     }
 
+    @Test
+    void removeDeepestNodeWhenNodeQueueSizeLimitIsExceeded() {
+        var phase = new ExhaustiveSearchPhaseScope<TestdataSolution>(new SolverScope<>(), 0);
+        phase.setExpandableNodeQueue(new TreeSet<>(new BreadthFirstNodeComparator<>(true)));
+        phase.setNodeQueueSizeLimit(new TreeSet<>(new DepthFirstNodeComparator<>(true)), 2);
+        ExhaustiveSearchNode<TestdataSolution> shallowNode = buildNode(0, "0", 0, 0);
+        ExhaustiveSearchNode<TestdataSolution> deepNode = buildNode(2, "0", 0, 0);
+        ExhaustiveSearchNode<TestdataSolution> middleNode = buildNode(1, "0", 0, 0);
+        phase.addExpandableNode(shallowNode);
+        phase.addExpandableNode(deepNode);
+        phase.addExpandableNode(middleNode);
+
+        // Above the limit, the deepest node goes first
+        assertThat(phase.removeNextExpandableNode()).isSameAs(deepNode);
+        // Within the limit, the node exploration type decides again
+        assertThat(phase.removeNextExpandableNode()).isSameAs(shallowNode);
+        assertThat(phase.removeNextExpandableNode()).isSameAs(middleNode);
+        assertThat(phase.getExpandableNodeQueue()).isEmpty();
+    }
+
+    @Test
+    void pruneBothNodeQueues() {
+        var phase = new ExhaustiveSearchPhaseScope<TestdataSolution>(new SolverScope<>(), 0);
+        phase.setExpandableNodeQueue(new TreeSet<>(new BreadthFirstNodeComparator<>(true)));
+        phase.setNodeQueueSizeLimit(new TreeSet<>(new DepthFirstNodeComparator<>(true)), 1);
+        ExhaustiveSearchNode<TestdataSolution> prunedNode = buildNode(2, "0", 0, 0, 0);
+        ExhaustiveSearchNode<TestdataSolution> keptNode = buildNode(0, "0", 5, 0, 0);
+        phase.addExpandableNode(prunedNode);
+        phase.addExpandableNode(keptNode);
+        phase.setBestPessimisticBound(InnerScore.fullyAssigned(SimpleScore.of(Integer.MIN_VALUE)));
+        phase.registerPessimisticBound(InnerScore.fullyAssigned(SimpleScore.ONE));
+
+        assertThat(phase.getExpandableNodeQueue()).containsExactly(keptNode);
+
+        // Above the limit, the pruned node must not come back from the depth first queue
+        ExhaustiveSearchNode<TestdataSolution> deeperKeptNode = buildNode(1, "0", 5, 0, 0);
+        phase.addExpandableNode(deeperKeptNode);
+        assertThat(phase.removeNextExpandableNode()).isSameAs(deeperKeptNode);
+        assertThat(phase.removeNextExpandableNode()).isSameAs(keptNode);
+        assertThat(phase.getExpandableNodeQueue()).isEmpty();
+    }
+
 }
@@ -0,0 +1,52 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+class RandomPermutationIteratorTest {
+
+    @Test
+    void iteratesEachIndexOnce() {
+        for (var size : new long[] { 1L, 2L, 3L, 4L, 5L, 17L, 64L, 1_000L, 4_097L }) {
+            var iterator = new RandomPermutationIterator(size, new Random(37));
+            var seen = new boolean[(int) size];
+            for (var i = 0L; i < size; i++) {
+                var index = iterator.nextLong();
+                assertThat(index).isBetween(0L, size - 1L);
+                assertThat(seen[(int) index]).as("Index (%d) of size (%d) is repeated.", index, size).isFalse();
+                seen[(int) index] = true;
+            }
+            assertThat(iterator.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    void empty() {
+        var iterator = new RandomPermutationIterator(0L, new Random(37));
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::nextLong).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void reproducibleAndShuffled() {
+        var indexList = new ArrayList<Long>();
+        new RandomPermutationIterator(100L, new Random(37)).forEachRemaining((long index) -> indexList.add(index));
+        var sameSeedIndexList = new ArrayList<Long>();
+        new RandomPermutationIterator(100L, new Random(37)).forEachRemaining((long index) -> sameSeedIndexList.add(index));
+        var otherSeedIndexList = new ArrayList<Long>();
+        new RandomPermutationIterator(100L, new Random(38)).forEachRemaining((long index) -> otherSeedIndexList.add(index));
+
+        assertThat(sameSeedIndexList).isEqualTo(indexList);
+        assertThat(otherSeedIndexList).isNotEqualTo(indexList)
+                .containsExactlyInAnyOrderElementsOf(indexList);
+        assertThat(indexList).isNotEqualTo(LongStream.range(0L, 100L).boxed().toList());
+    }
+
+}
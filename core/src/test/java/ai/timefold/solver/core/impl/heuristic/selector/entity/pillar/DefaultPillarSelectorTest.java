@@ -55,7 +55,7 @@ class DefaultPillarSelectorTest {
                 a, b, c, d, e, f);
 
         DefaultPillarSelector pillarSelector = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
-                SubPillarConfigPolicy.withoutSubpillars());
+                SubPillarConfigPolicy.withoutSubpillars(), true);
 
         SolverScope<TestdataSolution> solverScope = mockSolverScope();
         pillarSelector.solvingStarted(solverScope);
@@ -70,8 +70,8 @@ class DefaultPillarSelectorTest {
         assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]", "[c, e, f]");
         pillarSelector.stepEnded(stepScopeA1);
 
-        b.setValue(val3);
-        f.setValue(val4);
+        changeValue(solverScope, variableDescriptor, b, val3);
+        changeValue(solverScope, variableDescriptor, f, val4);
 
         AbstractStepScope stepScopeA2 = mock(AbstractStepScope.class);
         when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
@@ -98,6 +98,15 @@ class DefaultPillarSelectorTest {
         verifyPhaseLifecycle(entitySelector, 1, 2, 3);
     }
 
+    private static void changeValue(SolverScope<TestdataSolution> solverScope,
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor, TestdataEntity entity, TestdataValue value) {
+        var shadowVariableSupport =
+                (ShadowVariableSupport<TestdataSolution>) solverScope.getScoreDirector().getSupplyManager();
+        shadowVariableSupport.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(value);
+        shadowVariableSupport.afterVariableChanged(variableDescriptor, entity);
+    }
+
     private SolverScope<TestdataSolution> mockSolverScope() {
         SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
         InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
@@ -115,7 +124,7 @@ class DefaultPillarSelectorTest {
         EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor());
 
         DefaultPillarSelector pillarSelector = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
-                SubPillarConfigPolicy.withoutSubpillars());
+                SubPillarConfigPolicy.withoutSubpillars(), true);
 
         SolverScope<TestdataSolution> solverScope = mockSolverScope();
         pillarSelector.solvingStarted(solverScope);
@@ -175,7 +184,7 @@ class DefaultPillarSelectorTest {
 
         DefaultPillarSelector pillarSelector = new DefaultPillarSelector(
                 entitySelector, Arrays.asList(variableDescriptor), true,
-                SubPillarConfigPolicy.withSubpillarsUnlimited());
+                SubPillarConfigPolicy.withSubpillarsUnlimited(), true);
 
         TestRandom workingRandom = new TestRandom(0);
 
@@ -198,8 +207,8 @@ class DefaultPillarSelectorTest {
         assertCodesOfNeverEndingPillarSelector(pillarSelector, "[a]", "[c, e]", "[b]", "[d]");
         pillarSelector.stepEnded(stepScopeA1);
 
-        b.setValue(val3);
-        f.setValue(val4);
+        changeValue(solverScope, variableDescriptor, b, val3);
+        changeValue(solverScope, variableDescriptor, f, val4);
 
         AbstractStepScope stepScopeA2 = PlannerTestUtils.delegatingStepScope(phaseScopeA);
         pillarSelector.stepStarted(stepScopeA2);
@@ -255,7 +264,7 @@ class DefaultPillarSelectorTest {
                 a, b, c, d, e, f);
 
         DefaultPillarSelector pillarSelector = new DefaultPillarSelector(
-                entitySelector, Arrays.asList(variableDescriptor), true, SubPillarConfigPolicy.withSubpillars(2, 2));
+                entitySelector, Arrays.asList(variableDescriptor), true, SubPillarConfigPolicy.withSubpillars(2, 2), true);
 
         // nextInt pattern: pillarIndex, subPillarSize, element 0, element 1, element 2, ...
         // Expected pillar cache: [b, d], [c, e, f]
@@ -302,7 +311,7 @@ class DefaultPillarSelectorTest {
         Comparator<TestdataEntity> lexicographicComparator = Comparator.comparing(TestdataObject::getCode);
         DefaultPillarSelector pillarSelector = new DefaultPillarSelector(entitySelector,
                 Arrays.asList(variableDescriptor), true,
-                SubPillarConfigPolicy.sequentialUnlimited(lexicographicComparator));
+                SubPillarConfigPolicy.sequentialUnlimited(lexicographicComparator), true);
 
         // nextInt pattern: pillarIndex, subPillarSize, subPillarStartingIndex
         // Expected pillar cache: [a], [b, d], [c, e, f]
@@ -339,7 +348,7 @@ class DefaultPillarSelectorTest {
 
         DefaultPillarSelector pillarSelector = new DefaultPillarSelector(
                 entitySelector, Arrays.asList(variableDescriptor), true,
-                SubPillarConfigPolicy.withSubpillarsUnlimited());
+                SubPillarConfigPolicy.withSubpillarsUnlimited(), true);
 
         SolverScope<TestdataSolution> solverScope = mockSolverScope();
         pillarSelector.solvingStarted(solverScope);
@@ -397,9 +406,9 @@ class DefaultPillarSelectorTest {
                 a, b, c, d, e, f);
 
         DefaultPillarSelector pillarSelector1 = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
-                SubPillarConfigPolicy.withoutSubpillars());
+                SubPillarConfigPolicy.withoutSubpillars(), true);
         DefaultPillarSelector pillarSelector2 = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
-                SubPillarConfigPolicy.withoutSubpillars());
+                SubPillarConfigPolicy.withoutSubpillars(), true);
 
         SolverScope<TestdataSolution> solverScope = mockSolverScope();
         pillarSelector1.solvingStarted(solverScope);
@@ -407,8 +416,6 @@ class DefaultPillarSelectorTest {
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
         when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
-        pillarSelector1.phaseStarted(phaseScopeA);
-        pillarSelector2.phaseStarted(phaseScopeA);
 
         AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
         when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
@@ -419,27 +426,30 @@ class DefaultPillarSelectorTest {
          *
          * It starts with active count 0, then first selector creates the supply and active count goes to 1.
          * Second selector increases the count to 2, but the supply stays the same.
-         * Then after step end, the same process repeats in reverse, eventually reaching zero active count.
+         * The steps do not change the count, because the supply lives as long as the phase.
+         * Then after phase end, the same process repeats in reverse, eventually reaching zero active count.
          */
         SupplyManager pillarSupplyManager = solverScope.getScoreDirector().getSupplyManager();
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
-        pillarSelector1.stepStarted(stepScopeA1);
+        pillarSelector1.phaseStarted(phaseScopeA);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
 
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(1);
-        pillarSelector2.stepStarted(stepScopeA1);
+        pillarSelector2.phaseStarted(phaseScopeA);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(2);
 
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(2);
+        pillarSelector1.stepStarted(stepScopeA1);
+        pillarSelector2.stepStarted(stepScopeA1);
         pillarSelector1.stepEnded(stepScopeA1);
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
-
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
         pillarSelector2.stepEnded(stepScopeA1);
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
+        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(2);
 
         pillarSelector1.phaseEnded(phaseScopeA);
+        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
+
+        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
         pillarSelector2.phaseEnded(phaseScopeA);
+        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
 
         pillarSelector1.solvingEnded(solverScope);
         pillarSelector2.solvingEnded(solverScope);
@@ -463,9 +473,9 @@ class DefaultPillarSelectorTest {
                 a, b, c, d, e, f);
 
         DefaultPillarSelector pillarSelector1 = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
-                SubPillarConfigPolicy.withoutSubpillars());
+                SubPillarConfigPolicy.withoutSubpillars(), true);
         DefaultPillarSelector pillarSelector2 = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
-                SubPillarConfigPolicy.withoutSubpillars());
+                SubPillarConfigPolicy.withoutSubpillars(), true);
 
         SolverScope<TestdataSolution> solverScope = mockSolverScope();
         pillarSelector1.solvingStarted(solverScope);
@@ -473,8 +483,6 @@ class DefaultPillarSelectorTest {
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
         when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
-        pillarSelector1.phaseStarted(phaseScopeA);
-        pillarSelector2.phaseStarted(phaseScopeA);
 
         AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
         when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
@@ -485,10 +493,12 @@ class DefaultPillarSelectorTest {
          */
         SupplyManager pillarSupplyManager = solverScope.getScoreDirector().getSupplyManager();
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
+        pillarSelector1.phaseStarted(phaseScopeA);
         pillarSelector1.stepStarted(stepScopeA1);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
 
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(1);
+        pillarSelector2.phaseStarted(phaseScopeA);
         pillarSelector2.stepStarted(stepScopeA1);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(2);
 
@@ -0,0 +1,61 @@
+package ai.timefold.solver.core.impl.heuristic.selector.entity.pillar;
+
+import static ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicyTestUtils.buildHeuristicConfigPolicy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionOrder;
+import ai.timefold.solver.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.entity.pillar.PillarSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.SubPillarType;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import ai.timefold.solver.core.impl.score.director.ScoreDirector;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testdomain.pinned.TestdataPinnedSolution;
+
+import org.junit.jupiter.api.Test;
+
+class PillarSelectorFactoryTest {
+
+    @Test
+    void incrementalWithoutFilter() {
+        var pillarSelector = buildPillarSelector(new PillarSelectorConfig(), buildHeuristicConfigPolicy());
+        assertThat(pillarSelector.getPillarDemand().isIncremental()).isTrue();
+    }
+
+    @Test
+    void incrementalWithPinnedEntities() {
+        var pillarSelector = buildPillarSelector(new PillarSelectorConfig(),
+                buildHeuristicConfigPolicy(TestdataPinnedSolution.buildSolutionDescriptor()));
+        assertThat(pillarSelector.getPillarDemand().isIncremental()).isTrue();
+    }
+
+    @Test
+    void notIncrementalWithFilterClass() {
+        var pillarSelectorConfig = new PillarSelectorConfig()
+                .withEntitySelectorConfig(new EntitySelectorConfig()
+                        .withFilterClass(AssignedEntityFilter.class));
+        var pillarSelector = buildPillarSelector(pillarSelectorConfig, buildHeuristicConfigPolicy());
+        // The filter depends on the planning variable, so the pillars cannot be kept up to date incrementally.
+        assertThat(pillarSelector.getPillarDemand().isIncremental()).isFalse();
+    }
+
+    private static <Solution_> DefaultPillarSelector<Solution_> buildPillarSelector(
+            PillarSelectorConfig pillarSelectorConfig, HeuristicConfigPolicy<Solution_> configPolicy) {
+        return (DefaultPillarSelector<Solution_>) PillarSelectorFactory.<Solution_> create(pillarSelectorConfig)
+                .buildPillarSelector(configPolicy, SubPillarType.NONE, null, SelectionCacheType.STEP,
+                        SelectionOrder.RANDOM, List.of());
+    }
+
+    public static class AssignedEntityFilter implements SelectionFilter<TestdataSolution, TestdataEntity> {
+        @Override
+        public boolean accept(ScoreDirector<TestdataSolution> scoreDirector, TestdataEntity selection) {
+            return selection.getValue() != null;
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
+
+import static ai.timefold.solver.core.impl.heuristic.selector.move.composite.AdaptiveSelectorProbabilities.EXPLORATION_SHARE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.impl.heuristic.move.SelectorBasedDummyMove;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.preview.api.move.Move;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testutil.TestRandom;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveSelectorProbabilitiesTest {
+
+    @Test
+    void rewardedChildIsSelectedMoreOften() {
+        var probabilities = new AdaptiveSelectorProbabilities(2);
+        assertThat(probabilities.getProbability(0)).isEqualTo(0.5);
+        assertThat(probabilities.getProbability(1)).isEqualTo(0.5);
+
+        var step = new StepSimulation(probabilities);
+        for (var i = 0; i < 20; i++) {
+            step.start();
+            var stepMove = step.select(0, 1, true);
+            step.select(1, 1, false);
+            step.end(stepMove, 1);
+        }
+        // The child which never selected a step only keeps its share of the exploration.
+        assertThat(probabilities.getProbability(0)).isCloseTo(1.0 - EXPLORATION_SHARE / 2, within(1e-9));
+        assertThat(probabilities.getProbability(1)).isCloseTo(EXPLORATION_SHARE / 2, within(1e-9));
+        assertThat(probabilities.selectChild(new TestRandom(0.85))).isZero();
+        assertThat(probabilities.selectChild(new TestRandom(0.95))).isOne();
+
+        probabilities.reset();
+        assertThat(probabilities.getProbability(0)).isEqualTo(0.5);
+    }
+
+    @Test
+    void childSpendingMoreScoreCalculationsIsChargedMore() {
+        var probabilities = new AdaptiveSelectorProbabilities(2);
+        var step = new StepSimulation(probabilities);
+        for (var i = 0; i < 20; i++) {
+            // Both children select every other step, but the moves of child 0 need three times as many calculations.
+            var stepChildIndex = i % 2;
+            step.start();
+            var move0 = step.select(0, 3, stepChildIndex == 0);
+            var move1 = step.select(1, 1, stepChildIndex == 1);
+            step.end(stepChildIndex == 0 ? move0 : move1, 1);
+        }
+        assertThat(probabilities.getProbability(1)).isGreaterThan(2 * probabilities.getProbability(0));
+    }
+
+    @Test
+    void childImprovingTheScoreMoreIsRewardedMore() {
+        var probabilities = new AdaptiveSelectorProbabilities(2);
+        var step = new StepSimulation(probabilities);
+        for (var i = 0; i < 20; i++) {
+            // Both children select every other step, but the steps of child 0 improve the score ten times as much.
+            var stepChildIndex = i % 2;
+            step.start();
+            var move0 = step.select(0, 1, stepChildIndex == 0);
+            var move1 = step.select(1, 1, stepChildIndex == 1);
+            step.end(stepChildIndex == 0 ? move0 : move1, stepChildIndex == 0 ? 10 : 1);
+        }
+        assertThat(probabilities.getProbability(0)).isGreaterThan(3 * probabilities.getProbability(1));
+    }
+
+    @Test
+    void onlyStepWhichWasLastAcceptedIsRewarded() {
+        var probabilities = new AdaptiveSelectorProbabilities(2);
+        var step = new StepSimulation(probabilities);
+        for (var i = 0; i < 20; i++) {
+            step.start();
+            var stepMove = step.select(0, 1, true);
+            // The forager picked the best of the accepted moves, which was not the last one.
+            step.select(1, 1, true);
+            step.end(stepMove, 1);
+        }
+        assertThat(probabilities.getProbability(0)).isEqualTo(0.5);
+        assertThat(probabilities.getProbability(1)).isEqualTo(0.5);
+    }
+
+    /**
+     * Simulates a local search step in which every selected move is evaluated before the next one is selected.
+     */
+    private static final class StepSimulation {
+
+        private final AdaptiveSelectorProbabilities probabilities;
+        private final SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        private final LocalSearchPhaseScope<TestdataSolution> phaseScope = mock(LocalSearchPhaseScope.class);
+        private long scoreCalculationCount = 0L;
+        private int score = -1000;
+        private LocalSearchStepScope<TestdataSolution> stepScope;
+        private long acceptedMoveCount;
+
+        StepSimulation(AdaptiveSelectorProbabilities probabilities) {
+            this.probabilities = probabilities;
+            when(solverScope.getScoreCalculationCount()).thenAnswer(invocation -> scoreCalculationCount);
+            when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        }
+
+        void start() {
+            stepScope = mock(LocalSearchStepScope.class);
+            when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+            acceptedMoveCount = 0L;
+            when(stepScope.getAcceptedMoveCount()).thenAnswer(invocation -> acceptedMoveCount);
+            probabilities.stepStarted(stepScope);
+        }
+
+        Move<TestdataSolution> select(int childIndex, int scoreCalculations, boolean accepted) {
+            var move = new SelectorBasedDummyMove("move" + scoreCalculationCount);
+            probabilities.recordSelection(childIndex, move);
+            scoreCalculationCount += scoreCalculations;
+            if (accepted) {
+                acceptedMoveCount++;
+            }
+            return move;
+        }
+
+        void end(Move<TestdataSolution> stepMove, int improvement) {
+            LocalSearchStepScope<TestdataSolution> lastStepScope = mock(LocalSearchStepScope.class);
+            when(lastStepScope.<SimpleScore> getScore()).thenReturn(InnerScore.fullyAssigned(SimpleScore.of(score)));
+            when(phaseScope.getLastCompletedStepScope()).thenReturn(lastStepScope);
+            score += improvement;
+            when(stepScope.getStep()).thenReturn(stepMove);
+            when(stepScope.<SimpleScore> getScore()).thenReturn(InnerScore.fullyAssigned(SimpleScore.of(score)));
+            when(stepScope.getBestScoreImproved()).thenReturn(true);
+            probabilities.stepEnded(stepScope);
+        }
+
+    }
+
+}
@@ -151,6 +151,36 @@ class UnionMoveSelectorTest {
         verifyPhaseLifecycle(childMoveSelectorList.get(1), 1, 1, 1);
     }
 
+    @Test
+    void adaptiveRandomSelection() {
+        List<MoveSelector<TestdataSolution>> childMoveSelectorList = List.of(
+                SelectorTestUtils.mockMoveSelector(new SelectorBasedDummyMove("a1"), new SelectorBasedDummyMove("a2"),
+                        new SelectorBasedDummyMove("a3")),
+                SelectorTestUtils.mockMoveSelector(new SelectorBasedDummyMove("b1"), new SelectorBasedDummyMove("b2")));
+        UnionMoveSelector<TestdataSolution> moveSelector =
+                new UnionMoveSelector<>(childMoveSelectorList, true, null, true);
+
+        // Nothing was learned yet, so the probabilities are uniform.
+        var workingRandom = new TestRandom(0.2, 0.7, 0.9, 0.1, 0.6);
+        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        moveSelector.solvingStarted(solverScope);
+        AbstractPhaseScope<TestdataSolution> phaseScopeA = PlannerTestUtils.delegatingPhaseScope(solverScope);
+        moveSelector.phaseStarted(phaseScopeA);
+        AbstractStepScope<TestdataSolution> stepScopeA1 = PlannerTestUtils.delegatingStepScope(phaseScopeA);
+        moveSelector.stepStarted(stepScopeA1);
+
+        // The last random value selects the exhausted child, which falls back to the other child.
+        assertAllCodesOfMoveSelector(moveSelector, "a1", "b1", "b2", "a2", "a3");
+
+        moveSelector.stepEnded(stepScopeA1);
+        moveSelector.phaseEnded(phaseScopeA);
+        moveSelector.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(childMoveSelectorList.get(0), 1, 1, 1);
+        verifyPhaseLifecycle(childMoveSelectorList.get(1), 1, 1, 1);
+    }
+
     @Test
     void emptyUniformRandomSelection() {
         ArrayList<MoveSelector<TestdataSolution>> childMoveSelectorList = new ArrayList<>();
@@ -3,17 +3,24 @@ package ai.timefold.solver.core.impl.heuristic.selector.move.decorator;
 import static ai.timefold.solver.core.testutil.PlannerAssert.assertAllCodesOfMoveSelector;
 import static ai.timefold.solver.core.testutil.PlannerAssert.verifyPhaseLifecycle;
 import static ai.timefold.solver.core.testutil.PlannerTestUtils.mockSolverScope;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+
 import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
 import ai.timefold.solver.core.impl.heuristic.move.SelectorBasedDummyMove;
 import ai.timefold.solver.core.impl.heuristic.selector.SelectorTestUtils;
+import ai.timefold.solver.core.impl.heuristic.selector.move.IndexedMoves;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.preview.api.move.Move;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testutil.PlannerTestUtils;
 import ai.timefold.solver.core.testutil.TestRandom;
 
@@ -36,6 +43,43 @@ class ShufflingMoveSelectorTest {
         run(SelectionCacheType.STEP, 3);
     }
 
+    @Test
+    void indexedMoves() {
+        var moveList = List.<Move<TestdataSolution>> of(new SelectorBasedDummyMove("a1"), new SelectorBasedDummyMove("a2"),
+                new SelectorBasedDummyMove("a3"), new SelectorBasedDummyMove("a4"), new SelectorBasedDummyMove("a5"));
+        MoveSelector<TestdataSolution> childMoveSelector = SelectorTestUtils.mockMoveSelector(moveList.toArray(Move[]::new));
+        when(childMoveSelector.buildIndexedMoves()).thenReturn(new IndexedMoves<>() {
+            @Override
+            public long size() {
+                return moveList.size();
+            }
+
+            @Override
+            public Move<TestdataSolution> get(long index) {
+                // Like a filter that rejects the move.
+                return index == 2L ? null : moveList.get((int) index);
+            }
+        });
+
+        var moveSelector = new ShufflingMoveSelector<>(childMoveSelector, SelectionCacheType.STEP);
+        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        when(solverScope.getWorkingRandom()).thenReturn(new TestRandom(1L, 2L, 3L, 4L));
+        moveSelector.solvingStarted(solverScope);
+        AbstractPhaseScope<TestdataSolution> phaseScope = PlannerTestUtils.delegatingPhaseScope(solverScope);
+        moveSelector.phaseStarted(phaseScope);
+        AbstractStepScope<TestdataSolution> stepScope = PlannerTestUtils.delegatingStepScope(phaseScope);
+        moveSelector.stepStarted(stepScope);
+
+        // Includes the rejected move, because it is only filtered when it is selected.
+        assertThat(moveSelector.getSize()).isEqualTo(5L);
+        assertThat(moveSelector.iterator()).toIterable()
+                .containsExactlyInAnyOrder(moveList.get(0), moveList.get(1), moveList.get(3), moveList.get(4));
+        moveSelector.stepEnded(stepScope);
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+        verify(childMoveSelector, never()).iterator();
+    }
+
     public void run(SelectionCacheType cacheType, int timesCalled) {
         MoveSelector childMoveSelector = SelectorTestUtils.mockMoveSelector(
                 new SelectorBasedDummyMove("a1"), new SelectorBasedDummyMove("a2"), new SelectorBasedDummyMove("a3"));
@@ -38,7 +38,7 @@ class PillarChangeMoveSelectorTest {
         EntitySelector<TestdataSolution> entitySelector = mockEntitySelector(TestdataEntity.class, a, b, c, d);
         var pillarSelector = new DefaultPillarSelector<>(entitySelector,
                 TestdataEntity.buildEntityDescriptor().getGenuineVariableDescriptorList(), false,
-                SubPillarConfigPolicy.withoutSubpillars());
+                SubPillarConfigPolicy.withoutSubpillars(), true);
         ValueSelector<TestdataSolution> valueSelector = mockIterableValueSelector(TestdataEntity.class, "value", v1, v2, v3);
         var moveSelector = new PillarChangeMoveSelector<>(pillarSelector, valueSelector, false);
 
@@ -35,21 +35,25 @@ class PillarDemandTest {
                 FilteringEntitySelector.of(entitySelector, selectionFilter);
 
         PillarDemand<TestdataSolution> pillarDemand =
-                new PillarDemand<>(filteringEntitySelector, variableDescriptorList, subPillarConfigPolicy);
+                new PillarDemand<>(filteringEntitySelector, variableDescriptorList, subPillarConfigPolicy, true);
         Assertions.assertThat(pillarDemand).isEqualTo(pillarDemand);
 
         PillarDemand<TestdataSolution> samePillarDemand =
-                new PillarDemand<>(filteringEntitySelector, variableDescriptorList, subPillarConfigPolicy);
+                new PillarDemand<>(filteringEntitySelector, variableDescriptorList, subPillarConfigPolicy, true);
         Assertions.assertThat(samePillarDemand).isEqualTo(pillarDemand);
 
         PillarDemand<TestdataSolution> samePillarDemandCopiedList =
-                new PillarDemand<>(filteringEntitySelector, new ArrayList<>(variableDescriptorList), subPillarConfigPolicy);
+                new PillarDemand<>(filteringEntitySelector, new ArrayList<>(variableDescriptorList), subPillarConfigPolicy, true);
         Assertions.assertThat(samePillarDemandCopiedList).isEqualTo(pillarDemand);
 
         EntitySelector<TestdataSolution> sameEntitySelector = FilteringEntitySelector.of(entitySelector, selectionFilter);
         PillarDemand<TestdataSolution> samePillarDemandCopiedSelector =
-                new PillarDemand<>(sameEntitySelector, new ArrayList<>(variableDescriptorList), subPillarConfigPolicy);
+                new PillarDemand<>(sameEntitySelector, new ArrayList<>(variableDescriptorList), subPillarConfigPolicy, true);
         Assertions.assertThat(samePillarDemandCopiedSelector).isEqualTo(pillarDemand);
+
+        PillarDemand<TestdataSolution> nonIncrementalPillarDemand =
+                new PillarDemand<>(filteringEntitySelector, variableDescriptorList, subPillarConfigPolicy, false);
+        Assertions.assertThat(nonIncrementalPillarDemand).isNotEqualTo(pillarDemand);
     }
 
 }
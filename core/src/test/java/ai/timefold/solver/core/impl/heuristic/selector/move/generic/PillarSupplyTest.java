@@ -0,0 +1,136 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import ai.timefold.solver.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.SelectorTestUtils;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataObject;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testdomain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class PillarSupplyTest {
+
+    private final GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+            TestdataEntity.buildVariableDescriptorForValue();
+    private final InnerScoreDirector<TestdataSolution, ?> scoreDirector = mock(InnerScoreDirector.class);
+
+    private final TestdataValue val1 = new TestdataValue("1");
+    private final TestdataValue val2 = new TestdataValue("2");
+    private final TestdataValue val3 = new TestdataValue("3");
+    private final TestdataValue val4 = new TestdataValue("4");
+
+    private final TestdataEntity a = new TestdataEntity("a", val1);
+    private final TestdataEntity b = new TestdataEntity("b", val2);
+    private final TestdataEntity c = new TestdataEntity("c", val3);
+    private final TestdataEntity d = new TestdataEntity("d", val2);
+    private final TestdataEntity e = new TestdataEntity("e", val3);
+    private final TestdataEntity f = new TestdataEntity("f", val3);
+
+    @Test
+    void updateOnlyChangedEntities() {
+        var supply = buildSupply(SubPillarConfigPolicy.withoutSubpillars());
+        var pillarList = supply.read();
+        assertCodes(pillarList, "[a]", "[b, d]", "[c, e, f]");
+        var oldPillar = pillarList.get(2);
+
+        changeValue(supply, b, val3);
+        changeValue(supply, f, val4);
+        // Same result as building it from scratch.
+        assertCodes(supply.read(), "[a]", "[b, c, e]", "[d]", "[f]");
+        assertCodes(buildSupply(SubPillarConfigPolicy.withoutSubpillars()).read(), "[a]", "[b, c, e]", "[d]", "[f]");
+        // Moves of an earlier step can still hold on to the old pillar.
+        assertCodes(List.of(oldPillar), "[c, e, f]");
+
+        changeValue(supply, a, val3);
+        changeValue(supply, f, val2);
+        assertCodes(supply.read(), "[a, b, c, e]", "[d, f]");
+    }
+
+    @Test
+    void ignoreUndoneChanges() {
+        var supply = buildSupply(SubPillarConfigPolicy.withoutSubpillars());
+        var pillarList = List.copyOf(supply.read());
+
+        changeValue(supply, b, val3);
+        changeValue(supply, b, val2);
+        var updatedPillarList = supply.read();
+        assertCodes(updatedPillarList, "[a]", "[b, d]", "[c, e, f]");
+        for (var i = 0; i < pillarList.size(); i++) {
+            assertThat(updatedPillarList.get(i)).isSameAs(pillarList.get(i));
+        }
+    }
+
+    @Test
+    void excludePillarsSmallerThanMinimumSubPillarSize() {
+        var supply = buildSupply(SubPillarConfigPolicy.withSubpillars(2, Integer.MAX_VALUE));
+        assertCodes(supply.read(), "[b, d]", "[c, e, f]");
+
+        changeValue(supply, b, val1);
+        assertCodes(supply.read(), "[a, b]", "[c, e, f]");
+
+        changeValue(supply, e, val4);
+        changeValue(supply, f, val4);
+        assertCodes(supply.read(), "[a, b]", "[e, f]");
+    }
+
+    @Test
+    void rebuildAfterResetWorkingSolution() {
+        var supply = buildSupply(SubPillarConfigPolicy.withoutSubpillars());
+        assertCodes(supply.read(), "[a]", "[b, d]", "[c, e, f]");
+
+        // Changed without a notification, which is only allowed when the working solution is reset.
+        b.setValue(val3);
+        supply.resetWorkingSolution(scoreDirector);
+        assertCodes(supply.read(), "[a]", "[b, c, e, f]", "[d]");
+    }
+
+    @Test
+    void rebuildEveryReadIfNotIncremental() {
+        // Like a filterClass which depends on the planning variable, so the selected entities change during the phase.
+        var entitySelector = SelectorTestUtils.<TestdataSolution> mockEntitySelector(
+                variableDescriptor.getEntityDescriptor());
+        var entityList = List.of(a, b, c, d, e, f);
+        when(entitySelector.iterator()).thenAnswer(invocation -> entityList.stream()
+                .filter(entity -> entity.getValue() != val4)
+                .map(Object.class::cast)
+                .iterator());
+        var supply = new PillarSupply<>(entitySelector, List.of(variableDescriptor),
+                SubPillarConfigPolicy.withoutSubpillars(), false);
+        assertCodes(supply.read(), "[a]", "[b, d]", "[c, e, f]");
+
+        changeValue(supply, e, val4);
+        changeValue(supply, b, val3);
+        assertCodes(supply.read(), "[a]", "[b, c, f]", "[d]");
+    }
+
+    private PillarSupply<TestdataSolution> buildSupply(SubPillarConfigPolicy subPillarConfigPolicy) {
+        var entitySelector = SelectorTestUtils.<TestdataSolution> mockEntitySelector(
+                variableDescriptor.getEntityDescriptor(), a, b, c, d, e, f);
+        return new PillarSupply<>(entitySelector, List.of(variableDescriptor), subPillarConfigPolicy, true);
+    }
+
+    private void changeValue(PillarSupply<TestdataSolution> supply, TestdataEntity entity, TestdataValue value) {
+        supply.beforeVariableChanged(scoreDirector, entity);
+        entity.setValue(value);
+        supply.afterVariableChanged(scoreDirector, entity);
+    }
+
+    private static void assertCodes(List<List<Object>> pillarList, String... codes) {
+        assertThat(pillarList)
+                .map(pillar -> pillar.stream()
+                        .map(entity -> ((TestdataObject) entity).getCode())
+                        .toList()
+                        .toString())
+                .containsExactly(codes);
+    }
+
+}
@@ -4,11 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.score.trend.InitializingScoreTrendLevel;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.score.trend.InitializingScoreTrend;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 
 import org.junit.jupiter.api.Test;
@@ -28,6 +31,30 @@ class RuinRecreateConstructionHeuristicPhaseBuilderTest {
         assertThat(phase.getEntityPlacer()).isSameAs(builder.getEntityPlacer());
     }
 
+    @Test
+    void reuseFilteredEntityPlacer() {
+        var solverConfigPolicy = new HeuristicConfigPolicy.Builder<TestdataSolution>()
+                .withSolutionDescriptor(TestdataSolution.buildSolutionDescriptor())
+                .withInitializingScoreTrend(new InitializingScoreTrend(new InitializingScoreTrendLevel[] {
+                        InitializingScoreTrendLevel.ANY, InitializingScoreTrendLevel.ANY, InitializingScoreTrendLevel.ANY }))
+                .build();
+        var constructionHeuristicConfig = mock(ConstructionHeuristicPhaseConfig.class);
+        var builder = RuinRecreateConstructionHeuristicPhaseBuilder.create(solverConfigPolicy, constructionHeuristicConfig);
+        var unfilteredEntityPlacer = builder.getEntityPlacer();
+
+        var firstPhase = builder.withElementsToRecreate(List.of(new TestdataEntity("e1")))
+                .build();
+        var secondPhase = builder.withElementsToRecreate(List.of(new TestdataEntity("e2")))
+                .build();
+        assertThat(firstPhase.getEntityPlacer())
+                .isNotSameAs(unfilteredEntityPlacer)
+                .isSameAs(secondPhase.getEntityPlacer());
+
+        var unfilteredPhase = builder.withElementsToRecreate(List.of())
+                .build();
+        assertThat(unfilteredPhase.getEntityPlacer()).isSameAs(unfilteredEntityPlacer);
+    }
+
     @Test
     void buildMultiThreaded() {
         var solverConfigPolicy = new HeuristicConfigPolicy.Builder<TestdataSolution>()
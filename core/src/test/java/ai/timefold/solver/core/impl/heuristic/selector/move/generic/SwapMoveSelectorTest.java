@@ -236,6 +236,33 @@ class SwapMoveSelectorTest {
         verifyPhaseLifecycle(rightEntitySelector, 1, 2, 5);
     }
 
+    @Test
+    void indexedMovesInOriginalOrder() {
+        EntityDescriptor entityDescriptor = TestdataEntity.buildEntityDescriptor();
+        EntitySelector leftEntitySelector = SelectorTestUtils.mockEntitySelector(entityDescriptor,
+                new TestdataEntity("a"), new TestdataEntity("b"), new TestdataEntity("c"), new TestdataEntity("d"),
+                new TestdataEntity("e"), new TestdataEntity("f"), new TestdataEntity("g"));
+        EntitySelector rightEntitySelector = SelectorTestUtils.mockEntitySelector(entityDescriptor,
+                new TestdataEntity("x"), new TestdataEntity("y"), new TestdataEntity("z"));
+
+        assertIndexedMovesInOriginalOrder(new SwapMoveSelector(leftEntitySelector, leftEntitySelector,
+                entityDescriptor.getGenuineVariableDescriptorList(), false), 21);
+        assertIndexedMovesInOriginalOrder(new SwapMoveSelector(leftEntitySelector, rightEntitySelector,
+                entityDescriptor.getGenuineVariableDescriptorList(), false), 21);
+        assertThat(new SwapMoveSelector(leftEntitySelector, leftEntitySelector,
+                entityDescriptor.getGenuineVariableDescriptorList(), true).buildIndexedMoves()).isNull();
+    }
+
+    private static void assertIndexedMovesInOriginalOrder(SwapMoveSelector<?> moveSelector, long expectedSize) {
+        var indexedMoves = moveSelector.buildIndexedMoves();
+        assertThat(indexedMoves.size()).isEqualTo(expectedSize);
+        var expectedMoveIterator = moveSelector.iterator();
+        for (var i = 0L; i < expectedSize; i++) {
+            assertThat(indexedMoves.get(i)).hasToString(expectedMoveIterator.next().toString());
+        }
+        assertThat(expectedMoveIterator).isExhausted();
+    }
+
     @Test
     void originalLeftUnequalsRightWithEntityRange() {
         var v1 = new TestdataValue("1");
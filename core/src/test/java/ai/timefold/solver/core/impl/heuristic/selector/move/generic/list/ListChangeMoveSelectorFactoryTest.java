@@ -85,6 +85,25 @@ class ListChangeMoveSelectorFactoryTest {
         assertThat(valueSelectorConfig.getVariableName()).isEqualTo("valueList");
     }
 
+    @Test
+    void dontLookBits() {
+        var solutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        var moveSelectorConfig = new ListChangeMoveSelectorConfig()
+                .withDontLookBits(true);
+        var moveSelector = MoveSelectorFactory.<TestdataListSolution> create(moveSelectorConfig)
+                .buildMoveSelector(buildHeuristicConfigPolicy(solutionDescriptor), SelectionCacheType.JUST_IN_TIME,
+                        SelectionOrder.RANDOM, false);
+        assertThat(moveSelector).isInstanceOf(ListChangeMoveSelector.class);
+        assertThat(moveSelector.toString()).contains("DontLookBits(");
+
+        var originalMoveSelectorFactory = MoveSelectorFactory.<TestdataListSolution> create(moveSelectorConfig);
+        var heuristicConfigPolicy = buildHeuristicConfigPolicy(solutionDescriptor);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> originalMoveSelectorFactory.buildMoveSelector(heuristicConfigPolicy,
+                        SelectionCacheType.JUST_IN_TIME, SelectionOrder.ORIGINAL, false))
+                .withMessageContaining("dontLookBits");
+    }
+
     @Test
     void unfoldingFailsIfThereIsNoListVariable() {
         ListChangeMoveSelectorConfig config = new ListChangeMoveSelectorConfig();
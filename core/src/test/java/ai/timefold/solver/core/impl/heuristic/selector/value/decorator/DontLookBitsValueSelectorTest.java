@@ -0,0 +1,120 @@
+package ai.timefold.solver.core.impl.heuristic.selector.value.decorator;
+
+import static ai.timefold.solver.core.testdomain.list.TestdataListUtils.getListVariableDescriptor;
+import static ai.timefold.solver.core.testdomain.list.TestdataListUtils.mockNeverEndingIterableValueSelector;
+import static ai.timefold.solver.core.testutil.PlannerTestUtils.mockScoreDirector;
+import static ai.timefold.solver.core.testutil.PlannerTestUtils.mockSolverScope;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.testdomain.list.TestdataListEntity;
+import ai.timefold.solver.core.testdomain.list.TestdataListSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListValue;
+
+import org.junit.jupiter.api.Test;
+
+class DontLookBitsValueSelectorTest {
+
+    @Test
+    void skipValuesUntilTheirNeighboursChange() {
+        var v1 = new TestdataListValue("1");
+        var v2 = new TestdataListValue("2");
+        var v3 = new TestdataListValue("3");
+        var entity = new TestdataListEntity("A", v1, v2, v3);
+        var solution = new TestdataListSolution();
+        solution.setEntityList(List.of(entity));
+        solution.setValueList(List.of(v1, v2, v3));
+        SolutionManager.updateShadowVariables(solution);
+
+        var scoreDirector = mockScoreDirector(TestdataListSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+        var listVariableDescriptor = getListVariableDescriptor(scoreDirector);
+
+        var childValueSelector = mockNeverEndingIterableValueSelector(listVariableDescriptor, v1, v2, v3);
+        var valueSelector = new DontLookBitsValueSelector<>(childValueSelector);
+        var stepScope = startPhase(valueSelector, scoreDirector);
+
+        // Every step only looks at the first value, and no step changes its neighbours.
+        for (var i = 0; i < DontLookBitsValueSelector.FAILED_STEP_LIMIT; i++) {
+            valueSelector.stepStarted(stepScope);
+            assertThat(valueSelector.iterator().next()).isSameAs(v1);
+            valueSelector.stepEnded(stepScope);
+        }
+        valueSelector.stepStarted(stepScope);
+        assertThat(valueSelector.iterator().next()).isSameAs(v2);
+        valueSelector.stepEnded(stepScope);
+
+        // Swapping 2 and 3 changes the next element of 1.
+        scoreDirector.beforeListVariableChanged(listVariableDescriptor, entity, 1, 3);
+        entity.setValueList(new ArrayList<>(List.of(v1, v3, v2)));
+        scoreDirector.afterListVariableChanged(listVariableDescriptor, entity, 1, 3);
+        scoreDirector.triggerVariableListeners();
+
+        valueSelector.stepStarted(stepScope);
+        assertThat(valueSelector.iterator().next()).isSameAs(v1);
+        valueSelector.stepEnded(stepScope);
+    }
+
+    @Test
+    void bailOutWhenAllValuesAreSkipped() {
+        var v1 = new TestdataListValue("1");
+        var v2 = new TestdataListValue("2");
+        var unassigned = new TestdataListValue("3");
+        var entity = new TestdataListEntity("A", v1, v2);
+        var solution = new TestdataListSolution();
+        solution.setEntityList(List.of(entity));
+        solution.setValueList(List.of(v1, v2, unassigned));
+        SolutionManager.updateShadowVariables(solution);
+
+        var scoreDirector = mockScoreDirector(TestdataListSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+        var listVariableDescriptor = getListVariableDescriptor(scoreDirector);
+
+        var childValueSelector = mockNeverEndingIterableValueSelector(listVariableDescriptor, v1);
+        var valueSelector = new DontLookBitsValueSelector<>(childValueSelector);
+        var stepScope = startPhase(valueSelector, scoreDirector);
+
+        for (var i = 0; i < DontLookBitsValueSelector.FAILED_STEP_LIMIT + 1; i++) {
+            valueSelector.stepStarted(stepScope);
+            assertThat(valueSelector.iterator().next()).isSameAs(v1);
+            valueSelector.stepEnded(stepScope);
+        }
+
+        // An unassigned value is never skipped.
+        var unassignedValueSelector = new DontLookBitsValueSelector<>(
+                mockNeverEndingIterableValueSelector(listVariableDescriptor, unassigned, v1));
+        var unassignedStepScope = startPhase(unassignedValueSelector, scoreDirector);
+        for (var i = 0; i < DontLookBitsValueSelector.FAILED_STEP_LIMIT + 1; i++) {
+            unassignedValueSelector.stepStarted(unassignedStepScope);
+            assertThat(unassignedValueSelector.iterator().next()).isSameAs(unassigned);
+            unassignedValueSelector.stepEnded(unassignedStepScope);
+        }
+    }
+
+    private static AbstractStepScope<TestdataListSolution> startPhase(
+            DontLookBitsValueSelector<TestdataListSolution> valueSelector,
+            InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector) {
+        SolverScope<TestdataListSolution> solverScope = mockSolverScope();
+        valueSelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope<TestdataListSolution> phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        when(phaseScope.<SimpleScore> getScoreDirector()).thenReturn(scoreDirector);
+        valueSelector.phaseStarted(phaseScope);
+
+        AbstractStepScope<TestdataListSolution> stepScope = mock(AbstractStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        return stepScope;
+    }
+
+}
@@ -8,6 +8,9 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchType;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
@@ -60,6 +63,30 @@ class DefaultLocalSearchPhaseTest {
         assertThat(solvedE3.getValue()).isNotNull();
     }
 
+    @Test
+    void solveWithAdaptiveUnionMoveSelector() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withMoveSelectorConfig(new UnionMoveSelectorConfig()
+                                .withMoveSelectors(new ChangeMoveSelectorConfig(), new SwapMoveSelectorConfig())
+                                .withAdaptiveSelection(true))
+                        .withTerminationConfig(new TerminationConfig().withStepCountLimit(20)));
+
+        var solution = new TestdataSolution("s1");
+        var v1 = new TestdataValue("v1");
+        var v2 = new TestdataValue("v2");
+        var v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", v1),
+                new TestdataEntity("e2", v1),
+                new TestdataEntity("e3", v1)));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution, true);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getEntityList()).allSatisfy(entity -> assertThat(entity.getValue()).isNotNull());
+    }
+
     @Test
     void solveWithPinnedEntities() {
         var solverConfig =
@@ -0,0 +1,69 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
+
+import static ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu.IdentityTabuStepIndexMap.NO_STEP_INDEX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+class IdentityTabuStepIndexMapTest {
+
+    @Test
+    void comparesByIdentity() {
+        var map = new IdentityTabuStepIndexMap();
+        var tabu = new String("tabu");
+        var equalTabu = new String("tabu");
+        map.put(tabu, 3);
+        assertSoftly(softly -> {
+            softly.assertThat(map.get(tabu)).isEqualTo(3);
+            softly.assertThat(map.get(equalTabu)).isEqualTo(NO_STEP_INDEX);
+        });
+
+        map.put(tabu, 5);
+        assertSoftly(softly -> {
+            softly.assertThat(map.get(tabu)).isEqualTo(5);
+            softly.assertThat(map.size()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void expireBefore() {
+        var map = new IdentityTabuStepIndexMap();
+        var tabu0 = new Object();
+        var tabu1 = new Object();
+        map.put(tabu0, 0);
+        map.put(tabu1, 1);
+
+        map.expireBefore(1);
+        assertSoftly(softly -> {
+            softly.assertThat(map.get(tabu0)).isEqualTo(NO_STEP_INDEX);
+            softly.assertThat(map.get(tabu1)).isEqualTo(1);
+        });
+
+        // Expiry is permanent.
+        map.expireBefore(0);
+        assertThat(map.get(tabu0)).isEqualTo(NO_STEP_INDEX);
+
+        // An expired tabu becomes tabu again when put with a recent step index.
+        map.put(tabu0, 2);
+        assertThat(map.get(tabu0)).isEqualTo(2);
+    }
+
+    @Test
+    void growsPastDefaultCapacity() {
+        var map = new IdentityTabuStepIndexMap();
+        var tabuList = new ArrayList<Object>();
+        for (var i = 0; i < 1_000; i++) {
+            var tabu = new Object();
+            tabuList.add(tabu);
+            map.put(tabu, i);
+        }
+        assertThat(map.size()).isEqualTo(1_000);
+        for (var i = 0; i < tabuList.size(); i++) {
+            assertThat(map.get(tabuList.get(i))).isEqualTo(i);
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package ai.timefold.solver.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import ai.timefold.solver.core.api.score.SimpleScore;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class BavetNodeSharingReportTest {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void describe() {
+        var constraintFactory =
+                new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor(), EnvironmentMode.PHASE_ASSERT);
+        Predicate<TestdataEntity> sharedFilter = entity -> entity.getValue() == null;
+        var constraint1 = (BavetConstraint<TestdataSolution>) constraintFactory.forEach(TestdataEntity.class)
+                .filter(sharedFilter)
+                .penalize(SimpleScore.ONE)
+                .asConstraint("constraint1");
+        var constraint2 = (BavetConstraint<TestdataSolution>) constraintFactory.forEach(TestdataEntity.class)
+                .filter(sharedFilter)
+                .reward(SimpleScore.ONE)
+                .asConstraint("constraint2");
+        // Equivalent to the shared filter, but a different instance.
+        var constraint3 = (BavetConstraint<TestdataSolution>) constraintFactory.forEach(TestdataEntity.class)
+                .filter(entity -> entity.getValue() == null)
+                .penalize(SimpleScore.ONE)
+                .asConstraint("constraint3");
+
+        var sharedReport = BavetNodeSharingReport.describe(List.of(constraint1, constraint2));
+        assertThat(sharedReport)
+                .startsWith("Node sharing for (2) constraints: (4) streams, (2) of which shared by more than one constraint.")
+                .contains("constraint1", "constraint2")
+                .doesNotContain("Possibly missed node sharing");
+
+        var unsharedReport = BavetNodeSharingReport.describe(List.of(constraint1, constraint2, constraint3));
+        assertThat(unsharedReport)
+                .startsWith("Node sharing for (3) constraints: (6) streams, (2) of which shared by more than one constraint.")
+                .contains("Possibly missed node sharing (1):")
+                .contains("BavetNodeSharingReportTest#describe");
+    }
+
+}
@@ -91,6 +91,52 @@ class HardSoftScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHardSoft
                 .isEqualTo(HardSoftScore.of(0, 0));
     }
 
+    @Test
+    void impactWithUnitMatchWeightIsShared() {
+        var constraintWeight = HardSoftScore.of(10, 100);
+        var constraint = buildConstraint(constraintWeight);
+        var scoreInliner = buildScoreInliner(Map.of(constraint, constraintWeight), ConstraintMatchPolicy.DISABLED);
+        var impacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+
+        var impact1 = impacter.impactScore(1, null);
+        var impact2 = impacter.impactScore(1, null);
+        assertThat(impact2).isSameAs(impact1);
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(HardSoftScore.of(20, 200));
+
+        var impact3 = impacter.impactScore(2, null);
+        assertThat(impact3).isNotSameAs(impact1);
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(HardSoftScore.of(40, 400));
+
+        impact1.undo();
+        impact3.undo();
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(HardSoftScore.of(10, 100));
+
+        impact2.undo();
+        assertThat(scoreInliner.extractScore())
+                .isEqualTo(HardSoftScore.of(0, 0));
+    }
+
+    @Test
+    void extractScoreReusesUnchangedScore() {
+        var constraintWeight = HardSoftScore.of(10, 100);
+        var impacter = buildScoreImpacter(constraintWeight);
+        var scoreInliner = (AbstractScoreInliner<HardSoftScore>) impacter.getContext().inliner;
+        assertThat(scoreInliner.extractScore()).isSameAs(HardSoftScore.ZERO);
+
+        var impact = impacter.impactScore(1, ConstraintMatchSupplier.empty());
+        var score = scoreInliner.extractScore();
+        assertThat(score).isEqualTo(HardSoftScore.of(10, 100));
+        assertThat(scoreInliner.extractScore()).isSameAs(score);
+
+        impact.undo();
+        assertThat(scoreInliner.extractScore())
+                .isNotSameAs(score)
+                .isEqualTo(HardSoftScore.ZERO);
+    }
+
     @Test
     void impactAllMatchWeightOverflow() {
         var constraintWeight = HardSoftScore.of(10, 100);
@@ -0,0 +1,73 @@
+package ai.timefold.solver.core.impl.solver.termination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.solver.AbstractSolver;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class RemainingTimeRatioTerminationTest {
+
+    @Test
+    void phaseTermination() {
+        PhaseTermination<TestdataSolution> termination = new RemainingTimeRatioTermination<>(0.5);
+        AbstractSolver<TestdataSolution> solver = mock(AbstractSolver.class);
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        when(solverScope.getSolver()).thenReturn(solver);
+        AbstractPhaseScope<TestdataSolution> phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+
+        // The phase starts when 20% of the solver's time is spent, so it may spend another 40%.
+        when(solver.calculateTimeGradient(solverScope)).thenReturn(0.2);
+        termination.phaseStarted(phaseScope);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+        assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(0.0, offset(0.0));
+        when(solver.calculateTimeGradient(solverScope)).thenReturn(0.4);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+        assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(0.5, offset(1e-9));
+        when(solver.calculateTimeGradient(solverScope)).thenReturn(0.61);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isTrue();
+        assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(1.0, offset(0.0));
+        when(solver.calculateTimeGradient(solverScope)).thenReturn(0.7);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isTrue();
+        assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(1.0, offset(0.0));
+        termination.phaseEnded(phaseScope);
+
+        // The next phase starts from what remains.
+        termination.phaseStarted(phaseScope);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+        when(solver.calculateTimeGradient(solverScope)).thenReturn(0.9);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isTrue();
+    }
+
+    @Test
+    void neverTerminateWithoutSolverTimeGradient() {
+        PhaseTermination<TestdataSolution> termination = new RemainingTimeRatioTermination<>(0.5);
+        AbstractSolver<TestdataSolution> solver = mock(AbstractSolver.class);
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        when(solverScope.getSolver()).thenReturn(solver);
+        AbstractPhaseScope<TestdataSolution> phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+
+        when(solver.calculateTimeGradient(solverScope)).thenReturn(-1.0);
+        termination.phaseStarted(phaseScope);
+        assertThat(termination.isPhaseTerminated(phaseScope)).isFalse();
+        assertThat(termination.calculatePhaseTimeGradient(phaseScope)).isEqualTo(-1.0, offset(0.0));
+    }
+
+    @Test
+    void invalidRatio() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new RemainingTimeRatioTermination<>(0.0))
+                .withMessageContaining("remainingTimeRatio");
+        assertThatIllegalArgumentException().isThrownBy(() -> new RemainingTimeRatioTermination<>(1.5))
+                .withMessageContaining("remainingTimeRatio");
+    }
+
+}
@@ -178,6 +178,16 @@ class TerminationFactoryTest {
         assertThat(terminationList).hasOnlyElementsOfTypes(MoveCountTermination.class);
     }
 
+    @Test
+    void buildWithRemainingTimeRatio() {
+        TerminationConfig terminationConfig = new TerminationConfig()
+                .withRemainingTimeRatio(0.5);
+        Termination<TestdataSolution> termination = TerminationFactory.<TestdataSolution> create(terminationConfig)
+                .buildTermination(mock(HeuristicConfigPolicy.class));
+        assertThat(termination).isInstanceOf(RemainingTimeRatioTermination.class);
+        assertThat(((RemainingTimeRatioTermination<?>) termination).getRemainingTimeRatio()).isEqualTo(0.5);
+    }
+
     @Test
     void scoreDifferenceThreshold_mustBeUsedWithUnimprovedTimeSpent() {
         HeuristicConfigPolicy<TestdataSolution> heuristicConfigPolicy = mock(HeuristicConfigPolicy.class);
@@ -0,0 +1,110 @@
+package ai.timefold.solver.core.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LinearProbeHashMapTest {
+
+    @Test
+    void putGetRemove() {
+        var map = new LinearProbeHashMap<String, Integer>();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get("a")).isNull();
+        assertThat(map.remove("a")).isNull();
+
+        assertThat(map.put("a", 1)).isNull();
+        assertThat(map.put("b", 2)).isNull();
+        assertThat(map.put("a", 3)).isEqualTo(1);
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get("a")).isEqualTo(3);
+        assertThat(map.get("b")).isEqualTo(2);
+        assertThat(map.get("c")).isNull();
+
+        assertThat(map.remove("a")).isEqualTo(3);
+        assertThat(map.get("a")).isNull();
+        assertThat(map.get("b")).isEqualTo(2);
+        assertThat(map.size()).isEqualTo(1);
+
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get("b")).isNull();
+    }
+
+    @Test
+    void nullKey() {
+        var map = new LinearProbeHashMap<String, Integer>();
+        assertThat(map.get(null)).isNull();
+        assertThat(map.put(null, 1)).isNull();
+        assertThat(map.get(null)).isEqualTo(1);
+        assertThat(map).hasToString("{null=1}");
+        assertThat(map.remove(null)).isEqualTo(1);
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void resize() {
+        var map = new LinearProbeHashMap<Integer, Integer>(4);
+        assertThat(map.capacity()).isEqualTo(4);
+        map.put(0, 0);
+        assertThat(map.capacity()).isEqualTo(4);
+        map.put(1, 1); // Load factor would reach 0.5.
+        assertThat(map.capacity()).isEqualTo(8);
+        for (var i = 2; i < 100; i++) {
+            map.put(i, i);
+        }
+        assertThat(map.capacity()).isEqualTo(256);
+        for (var i = 0; i < 100; i++) {
+            assertThat(map.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void collidingKeys() {
+        var map = new LinearProbeHashMap<CollidingKey, Integer>();
+        for (var i = 0; i < 10; i++) {
+            map.put(new CollidingKey(i), i);
+        }
+        // Removing from the middle of the probe sequence must not hide the entries after it.
+        assertThat(map.remove(new CollidingKey(3))).isEqualTo(3);
+        assertThat(map.remove(new CollidingKey(0))).isEqualTo(0);
+        for (var i = 0; i < 10; i++) {
+            if (i == 0 || i == 3) {
+                assertThat(map.get(new CollidingKey(i))).isNull();
+            } else {
+                assertThat(map.get(new CollidingKey(i))).isEqualTo(i);
+            }
+        }
+        assertThat(map.size()).isEqualTo(8);
+    }
+
+    @Test
+    void behavesLikeHashMap() {
+        var random = new Random(37);
+        var map = new LinearProbeHashMap<Integer, Integer>();
+        var expectedMap = new HashMap<Integer, Integer>();
+        for (var i = 0; i < 100_000; i++) {
+            var key = random.nextInt(1_000);
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(map.put(key, i)).isEqualTo(expectedMap.put(key, i));
+                case 1 -> assertThat(map.remove(key)).isEqualTo(expectedMap.remove(key));
+                default -> assertThat(map.get(key)).isEqualTo(expectedMap.get(key));
+            }
+            assertThat(map.size()).isEqualTo(expectedMap.size());
+        }
+        expectedMap.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    }
+
+    private record CollidingKey(int id) {
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+    }
+
+}
@@ -53,4 +53,20 @@ class MutableLongTest {
         });
     }
 
+    @Test
+    void boxedValue() {
+        MutableLong mutableLong = new MutableLong(1_000);
+        Long boxed = mutableLong.boxedValue();
+        assertSoftly(softly -> {
+            softly.assertThat(boxed).isEqualTo(1_000L);
+            softly.assertThat(mutableLong.boxedValue()).isSameAs(boxed);
+        });
+        mutableLong.increment();
+        Long boxed2 = mutableLong.boxedValue();
+        assertSoftly(softly -> {
+            softly.assertThat(boxed2).isEqualTo(1_001L);
+            softly.assertThat(mutableLong.boxedValue()).isSameAs(boxed2);
+        });
+    }
+
 }
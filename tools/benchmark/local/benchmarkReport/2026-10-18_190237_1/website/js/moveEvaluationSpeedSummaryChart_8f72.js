@@ -0,0 +1,81 @@
+
+var chart_moveEvaluationSpeedSummaryChart_8f72 = new Chart(document.getElementById('chart_moveEvaluationSpeedSummaryChart_8f72'), {
+    type: 'line',
+    data: {
+        datasets: [
+                    ]
+    },
+    options: {
+        animation: false,
+        responsive: true,
+        maintainAspectRatio: false,
+        spanGaps: true,
+        plugins: {
+            title: {
+                display: true,
+                text: 'Move evaluation speed summary (higher is better)'
+            },
+            tooltip: {
+                callbacks: {
+                }
+            }
+        },
+        scales: {
+            x: {
+                title: {
+                    display: true,
+                    text: 'Problem scale'
+                },
+                ticks: {
+                        stepSize: 1
+                        
+                },
+                suggestedMin: 0,
+                suggestedMax: 0,
+                type: 'linear',
+                display: true
+            },
+            y: {
+                title: {
+                    display: true,
+                    text: 'Move evaluation speed per second'
+                },
+                ticks: {
+                        stepSize: 1
+                        
+                },
+                type: 'linear',
+                display: true
+            }
+        },
+watermark: {
+    image: "website/img/timefold-logo-stacked-positive.svg",
+    x: 15,
+    y: 15,
+    width: 48,
+    height: 50,
+    opacity: 0.1,
+    alignX: "right",
+    alignY: "bottom",
+    alignToChartArea: true,
+    position: "front",
+}    },
+plugins: [{ 
+    id: 'customPlugin',
+    beforeDraw: (chart, args, options) => {
+          const ctx = chart.canvas.getContext('2d');
+          ctx.save();
+          ctx.globalCompositeOperation = 'destination-over';
+          ctx.fillStyle = 'white';
+          ctx.fillRect(0, 0, chart.canvas.width, chart.canvas.height);
+          ctx.restore();
+    }
+}]
+});
+
+window.addEventListener('beforeprint', () => {
+  chart_moveEvaluationSpeedSummaryChart_8f72.resize(1280, 720);
+});
+window.addEventListener('afterprint', () => {
+  chart_moveEvaluationSpeedSummaryChart_8f72.resize();
+});
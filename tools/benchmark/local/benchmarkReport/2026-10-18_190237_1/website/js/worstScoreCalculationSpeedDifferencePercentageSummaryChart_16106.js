@@ -0,0 +1,70 @@
+
+var chart_worstScoreCalculationSpeedDifferencePercentageSummaryChart_16106 = new Chart(document.getElementById('chart_worstScoreCalculationSpeedDifferencePercentageSummaryChart_16106'), {
+    type: 'bar',
+    data: {
+        labels: [
+            
+        ],
+        datasets: [
+                    ]
+    },
+    options: {
+        animation: false,
+        responsive: true,
+        maintainAspectRatio: false,
+        resizeDelay: 100,
+        spanGaps: true,
+        plugins: {
+            title: {
+                display: true,
+                text: 'Worst score calculation speed difference percentage summary (higher is better)'
+            }
+        },
+        scales: {
+            x: {
+                display: true
+            },
+            y: {
+                title: {
+                    display: true,
+                    text: 'Worst score calculation speed difference percentage'
+                },
+                ticks: {
+                        stepSize: 1
+                        
+                },
+                type: 'linear',
+                display: true
+            }
+        },
+watermark: {
+    image: "website/img/timefold-logo-stacked-positive.svg",
+    x: 15,
+    y: 15,
+    width: 48,
+    height: 50,
+    opacity: 0.1,
+    alignX: "right",
+    alignY: "bottom",
+    alignToChartArea: true,
+    position: "front",
+}    },
+plugins: [{ 
+    id: 'customPlugin',
+    beforeDraw: (chart, args, options) => {
+          const ctx = chart.canvas.getContext('2d');
+          ctx.save();
+          ctx.globalCompositeOperation = 'destination-over';
+          ctx.fillStyle = 'white';
+          ctx.fillRect(0, 0, chart.canvas.width, chart.canvas.height);
+          ctx.restore();
+    }
+}]
+});
+
+window.addEventListener('beforeprint', () => {
+  chart_worstScoreCalculationSpeedDifferencePercentageSummaryChart_16106.resize(1280, 720);
+});
+window.addEventListener('afterprint', () => {
+  chart_worstScoreCalculationSpeedDifferencePercentageSummaryChart_16106.resize();
+});
\ No newline at end of file
@@ -1,5 +1,6 @@
 package ai.timefold.solver.benchmark.impl;
 
+import java.lang.management.ManagementFactory;
 import java.util.HashMap;
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -14,6 +15,8 @@ import ai.timefold.solver.core.enterprise.TimefoldSolverEnterpriseService;
 import ai.timefold.solver.core.impl.solver.DefaultSolver;
 import ai.timefold.solver.core.impl.solver.DefaultSolverFactory;
 
+import com.sun.management.ThreadMXBean;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -102,7 +105,9 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
         var solver = (DefaultSolver<Solution_>) solverFactory.buildSolver();
         solver.setMonitorTagMap(subSingleBenchmarkTagMap);
         solver.addPhaseLifecycleListener(statisticRegistry);
+        var allocatedBytesBeforeSolving = getCurrentThreadAllocatedBytes();
         var solution = solver.solve(problem);
+        var allocatedBytesAfterSolving = getCurrentThreadAllocatedBytes();
 
         solver.removePhaseLifecycleListener(statisticRegistry);
         Metrics.removeRegistry(statisticRegistry);
@@ -120,6 +125,9 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
             subSingleBenchmarkResult.setTimeMillisSpent(timeMillisSpent);
             subSingleBenchmarkResult.setScoreCalculationCount(solverScope.getScoreCalculationCount());
             subSingleBenchmarkResult.setMoveEvaluationCount(solverScope.getMoveEvaluationCount());
+            if (allocatedBytesBeforeSolving >= 0L && allocatedBytesAfterSolving >= 0L) {
+                subSingleBenchmarkResult.setSolverThreadAllocatedBytes(allocatedBytesAfterSolving - allocatedBytesBeforeSolving);
+            }
 
             var solutionManager = SolutionManager.create(solverFactory);
             var isConstraintMatchEnabled = solver.getSolverScope().getScoreDirector().getConstraintMatchPolicy()
@@ -137,6 +145,17 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
         return this;
     }
 
+    /**
+     * @return -1 if the JVM does not measure the memory allocated per thread
+     */
+    private static long getCurrentThreadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return threadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1L;
+    }
+
     public String getName() {
         return subSingleBenchmarkResult.getName();
     }
@@ -58,6 +58,7 @@ public class SingleBenchmarkResult implements BenchmarkResult {
     private long timeMillisSpent = -1L;
     private long scoreCalculationCount = -1L;
     private long moveEvaluationCount = -1L;
+    private Long solverThreadAllocatedBytes = null;
     private String scoreExplanationSummary = null;
 
     // ************************************************************************
@@ -159,6 +160,13 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         this.moveEvaluationCount = moveEvaluationCount;
     }
 
+    /**
+     * @return null if the JVM does not measure the memory allocated per thread
+     */
+    public Long getSolverThreadAllocatedBytes() {
+        return solverThreadAllocatedBytes;
+    }
+
     @SuppressWarnings("unused") // Used by FreeMarker.
     public String getScoreExplanationSummary() {
         return scoreExplanationSummary;
@@ -270,6 +278,13 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         return timeMillisSpent == 0L ? moveEvaluationCountByThousand : moveEvaluationCountByThousand / timeMillisSpent;
     }
 
+    /**
+     * @return null if the JVM does not measure the memory allocated per thread
+     */
+    public Long getAllocatedBytesPerMoveEvaluation() {
+        return SubSingleBenchmarkResult.getAllocatedBytesPerMoveEvaluation(solverThreadAllocatedBytes, moveEvaluationCount);
+    }
+
     @SuppressWarnings("unused") // Used By FreeMarker.
     public boolean isWinner() {
         return ranking != null && ranking.intValue() == 0;
@@ -339,6 +354,7 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         timeMillisSpent = median.getTimeMillisSpent();
         scoreCalculationCount = median.getScoreCalculationCount();
         moveEvaluationCount = median.getMoveEvaluationCount();
+        solverThreadAllocatedBytes = median.getSolverThreadAllocatedBytes();
         scoreExplanationSummary = median.getScoreExplanationSummary();
     }
 
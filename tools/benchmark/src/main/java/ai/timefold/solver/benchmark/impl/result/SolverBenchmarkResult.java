@@ -57,6 +57,7 @@ public class SolverBenchmarkResult {
     // The average of the average is not just the overall average if the SingleBenchmarkResult's timeMillisSpent differ
     private Long averageScoreCalculationSpeed = null;
     private Long averageMoveEvaluationSpeed = null;
+    private Long averageAllocatedBytesPerMoveEvaluation = null;
     private Long averageTimeMillisSpent = null;
     private Double averageWorstScoreCalculationSpeedDifferencePercentage = null;
 
@@ -165,6 +166,11 @@ public class SolverBenchmarkResult {
         return averageMoveEvaluationSpeed;
     }
 
+    @SuppressWarnings("unused") // Used by FreeMarker.
+    public Long getAverageAllocatedBytesPerMoveEvaluation() {
+        return averageAllocatedBytesPerMoveEvaluation;
+    }
+
     public Long getAverageTimeMillisSpent() {
         return averageTimeMillisSpent;
     }
@@ -289,6 +295,8 @@ public class SolverBenchmarkResult {
         ScoreDifferencePercentage totalWorstScoreDifferencePercentage = null;
         long totalScoreCalculationSpeed = 0L;
         long totalMoveEvaluationSpeed = 0L;
+        long totalAllocatedBytesPerMoveEvaluation = 0L;
+        int allocatedBytesPerMoveEvaluationCount = 0;
         long totalTimeMillisSpent = 0L;
         double totalWorstScoreCalculationSpeedDifferencePercentage = 0.0;
         uninitializedSolutionCount = 0;
@@ -302,6 +310,10 @@ public class SolverBenchmarkResult {
                 } else if (!singleBenchmarkResult.isScoreFeasible()) {
                     infeasibleScoreCount++;
                 }
+                if (singleBenchmarkResult.getAllocatedBytesPerMoveEvaluation() != null) {
+                    totalAllocatedBytesPerMoveEvaluation += singleBenchmarkResult.getAllocatedBytesPerMoveEvaluation();
+                    allocatedBytesPerMoveEvaluationCount++;
+                }
                 if (firstNonFailure) {
                     totalScore = singleBenchmarkResult.getAverageScore();
                     totalWinningScoreDifference = singleBenchmarkResult.getWinningScoreDifference();
@@ -332,6 +344,10 @@ public class SolverBenchmarkResult {
             averageWorstScoreDifferencePercentage = totalWorstScoreDifferencePercentage.divide(successCount);
             averageScoreCalculationSpeed = totalScoreCalculationSpeed / successCount;
             averageMoveEvaluationSpeed = totalMoveEvaluationSpeed / successCount;
+            if (allocatedBytesPerMoveEvaluationCount > 0) {
+                averageAllocatedBytesPerMoveEvaluation =
+                        totalAllocatedBytesPerMoveEvaluation / allocatedBytesPerMoveEvaluationCount;
+            }
             averageTimeMillisSpent = totalTimeMillisSpent / successCount;
             averageWorstScoreCalculationSpeedDifferencePercentage = totalWorstScoreCalculationSpeedDifferencePercentage
                     / successCount;
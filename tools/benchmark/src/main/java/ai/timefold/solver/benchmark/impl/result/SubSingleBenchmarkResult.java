@@ -62,6 +62,7 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
     private long timeMillisSpent = -1L;
     private long scoreCalculationCount = -1L;
     private long moveEvaluationCount = -1L;
+    private Long solverThreadAllocatedBytes = null;
     private String scoreExplanationSummary = null;
 
     // ************************************************************************
@@ -174,6 +175,18 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
         this.moveEvaluationCount = moveEvaluationCount;
     }
 
+    /**
+     * @return null if the JVM does not measure the memory allocated per thread;
+     *         excludes the memory allocated by the move threads of multithreaded solving
+     */
+    public Long getSolverThreadAllocatedBytes() {
+        return solverThreadAllocatedBytes;
+    }
+
+    public void setSolverThreadAllocatedBytes(Long solverThreadAllocatedBytes) {
+        this.solverThreadAllocatedBytes = solverThreadAllocatedBytes;
+    }
+
     public String getScoreExplanationSummary() {
         return scoreExplanationSummary;
     }
@@ -230,6 +243,18 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
         return getSpeed(moveEvaluationCount, this.timeMillisSpent);
     }
 
+    @SuppressWarnings("unused") // Used by FreeMarker.
+    public Long getAllocatedBytesPerMoveEvaluation() {
+        return getAllocatedBytesPerMoveEvaluation(solverThreadAllocatedBytes, moveEvaluationCount);
+    }
+
+    static Long getAllocatedBytesPerMoveEvaluation(Long solverThreadAllocatedBytes, long moveEvaluationCount) {
+        if (solverThreadAllocatedBytes == null || moveEvaluationCount <= 0L) {
+            return null;
+        }
+        return solverThreadAllocatedBytes / moveEvaluationCount;
+    }
+
     @SuppressWarnings("unused") // Used by FreeMarker.
     public boolean isWinner() {
         return ranking != null && ranking.intValue() == 0;
@@ -308,6 +333,7 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
         newResult.timeMillisSpent = oldResult.timeMillisSpent;
         newResult.scoreCalculationCount = oldResult.scoreCalculationCount;
         newResult.moveEvaluationCount = oldResult.moveEvaluationCount;
+        newResult.solverThreadAllocatedBytes = oldResult.solverThreadAllocatedBytes;
 
         singleBenchmarkResult.getSubSingleBenchmarkResultList().add(newResult);
         return newResult;
@@ -37,6 +37,7 @@ module ai.timefold.solver.benchmark {
     requires freemarker;
     requires jakarta.xml.bind;
     requires java.xml;
+    requires jdk.management;
     requires micrometer.core;
     requires org.jspecify;
     requires org.slf4j;
@@ -365,6 +365,9 @@
                     <li class="active">
                         <button class="nav-link" id="summary_moveEvaluationSpeed-tab" data-bs-toggle="pill" data-bs-target="#summary_moveEvaluationSpeed-tab-pane" type="button">Move evaluation speed</button>
                     </li>
+                    <li>
+                        <button class="nav-link" id="summary_allocatedBytesPerMoveEvaluation-tab" data-bs-toggle="pill" data-bs-target="#summary_allocatedBytesPerMoveEvaluation-tab-pane" type="button">Allocation per move evaluation</button>
+                    </li>
                     <li>
                         <button class="nav-link" id="summary_worstScoreCalculationSpeedDifferencePercentage-tab" data-bs-toggle="pill" data-bs-target="#summary_worstScoreCalculationSpeedDifferencePercentage-tab-pane" type="button">Worst score calculation speed difference percentage</button>
                     </li>
@@ -515,6 +518,70 @@
                             </table>
                         </div>
                     </div>
+                    <div class="tab-pane show" id="summary_allocatedBytesPerMoveEvaluation-tab-pane">
+                        <h3 class="visually-hidden">Allocation per move evaluation summary</h3>
+                        <p>
+                            Useful for spotting memory allocation regressions, which cause garbage collection overhead.
+                            Counts the bytes allocated by the solver thread during solving, divided by the evaluated moves.
+                            Excludes the move threads of multithreaded solving.
+                        </p>
+                        <div class="table-responsive">
+                            <table class="table table-hover table-striped table-bordered">
+                                <thead>
+                                    <tr>
+                                        <th rowspan="2">Solver</th>
+                                        <th rowspan="2">Average</th>
+                                        <th colspan="${benchmarkReport.plannerBenchmarkResult.unifiedProblemBenchmarkResultList?size}">Problem</th>
+                                    </tr>
+                                    <tr>
+                                        <#list benchmarkReport.plannerBenchmarkResult.unifiedProblemBenchmarkResultList as problemBenchmarkResult>
+                                            <th>${problemBenchmarkResult.name}</th>
+                                        </#list>
+                                    </tr>
+                                </thead>
+                                <tbody class="table-group-divider">
+                                    <#list benchmarkReport.plannerBenchmarkResult.solverBenchmarkResultList as solverBenchmarkResult>
+                                        <tr<#if solverBenchmarkResult.favorite> class="table-success"</#if>>
+                                            <th>${solverBenchmarkResult.name}&nbsp;<@addSolverBenchmarkBadges solverBenchmarkResult=solverBenchmarkResult/></th>
+                                            <#if solverBenchmarkResult.averageAllocatedBytesPerMoveEvaluation??>
+                                                <td>${solverBenchmarkResult.averageAllocatedBytesPerMoveEvaluation?string.number} bytes</td>
+                                            <#else>
+                                                <td></td>
+                                            </#if>
+                                            <#list benchmarkReport.plannerBenchmarkResult.unifiedProblemBenchmarkResultList as problemBenchmarkResult>
+                                                <#if !solverBenchmarkResult.findSingleBenchmark(problemBenchmarkResult)??>
+                                                    <td></td>
+                                                <#else>
+                                                    <#assign singleBenchmarkResult = solverBenchmarkResult.findSingleBenchmark(problemBenchmarkResult)>
+                                                    <#if !singleBenchmarkResult.hasAllSuccess()>
+                                                        <td><span class="label label-important">Failed</span></td>
+                                                    <#elseif !singleBenchmarkResult.allocatedBytesPerMoveEvaluation??>
+                                                        <td></td>
+                                                    <#elseif solverBenchmarkResult.subSingleCount lte 1>
+                                                        <td>${singleBenchmarkResult.allocatedBytesPerMoveEvaluation?string.number} bytes</td>
+                                                    <#else>
+                                                        <td>
+                                                            <span class="dropdown">
+                                                                <button class="btn btn-secondary dropdown-toggle" type="button" data-bs-toggle="dropdown">
+                                                                    ${singleBenchmarkResult.allocatedBytesPerMoveEvaluation?string.number} bytes&nbsp;<@addSolverProblemBenchmarkResultBadges solverProblemBenchmarkResult=singleBenchmarkResult/>
+                                                                </button>
+                                                                <ul class="dropdown-menu">
+                                                                    <#list singleBenchmarkResult.subSingleBenchmarkResultList as subSingleBenchmarkResult>
+                                                                        <li class="dropdown-header"><strong>Run #${subSingleBenchmarkResult.getSubSingleBenchmarkIndex()}</strong></li>
+                                                                        <li class="dropdown-item"><#if subSingleBenchmarkResult.allocatedBytesPerMoveEvaluation??>${subSingleBenchmarkResult.allocatedBytesPerMoveEvaluation?string.number} bytes</#if></li>
+                                                                    </#list>
+                                                                </ul>
+                                                            </span>
+                                                        </td>
+                                                    </#if>
+                                                </#if>
+                                            </#list>
+                                        </tr>
+                                    </#list>
+                                </tbody>
+                            </table>
+                        </div>
+                    </div>
                     <div class="tab-pane show" id="summary_worstScoreCalculationSpeedDifferencePercentage-tab-pane">
                         <h3 class="visually-hidden">Worst score calculation speed difference percentage</h3>
                         <p>
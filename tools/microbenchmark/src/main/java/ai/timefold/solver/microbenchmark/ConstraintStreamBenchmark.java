@@ -0,0 +1,87 @@
+package ai.timefold.solver.microbenchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.microbenchmark.domain.Employee;
+import ai.timefold.solver.microbenchmark.domain.Schedule;
+import ai.timefold.solver.microbenchmark.domain.ScheduleConstraintProvider;
+import ai.timefold.solver.microbenchmark.domain.ScheduleGenerator;
+import ai.timefold.solver.microbenchmark.domain.Shift;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures incremental score calculation, the way local search does it:
+ * change one variable, then calculate the score.
+ * Each {@link ScheduleConstraintProvider.NodeKind} exercises a different kind of Bavet node.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstraintStreamBenchmark {
+
+    @Param
+    public ScheduleConstraintProvider.NodeKind nodeKind;
+    @Param({ "1000", "10000" })
+    public int shiftCount;
+
+    private InnerScoreDirector<Schedule, HardSoftScore> scoreDirector;
+    private GenuineVariableDescriptor<Schedule> variableDescriptor;
+    private List<Shift> shiftList;
+    private List<Employee> employeeList;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var solutionDescriptor = SolutionDescriptor.buildSolutionDescriptor(Schedule.class, Shift.class);
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<Schedule, HardSoftScore>(solutionDescriptor,
+                new ScheduleConstraintProvider(nodeKind), EnvironmentMode.NO_ASSERT);
+        scoreDirector = scoreDirectorFactory.buildScoreDirector();
+        variableDescriptor = solutionDescriptor.findEntityDescriptorOrFail(Shift.class)
+                .getGenuineVariableDescriptor("employee");
+        var schedule = ScheduleGenerator.generate(shiftCount, 0);
+        shiftList = schedule.getShiftList();
+        employeeList = schedule.getEmployeeList();
+        random = new Random(0);
+        scoreDirector.setWorkingSolution(schedule);
+        scoreDirector.calculateScore();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scoreDirector.close();
+    }
+
+    @Benchmark
+    public InnerScore<HardSoftScore> changeAndCalculateScore() {
+        var shift = shiftList.get(random.nextInt(shiftList.size()));
+        var employee = employeeList.get(random.nextInt(employeeList.size()));
+        scoreDirector.changeVariableFacade(variableDescriptor, shift, employee);
+        return scoreDirector.calculateScore();
+    }
+
+}
@@ -0,0 +1,86 @@
+package ai.timefold.solver.microbenchmark;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.impl.util.ElementAwareArrayList;
+import ai.timefold.solver.core.impl.util.ElementAwareLinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the two lists which back the leaf indexers,
+ * on the operations which Bavet performs on them: add, remove an arbitrary element, iterate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementAwareListBenchmark {
+
+    @Param({ "8", "1000" })
+    public int size;
+
+    private ElementAwareArrayList<Integer> arrayList;
+    private ArrayList<ElementAwareArrayList<Integer>.Entry> arrayListEntryList;
+    private ElementAwareLinkedList<Integer> linkedList;
+    private ArrayList<ElementAwareLinkedList.Entry<Integer>> linkedListEntryList;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        arrayList = new ElementAwareArrayList<>();
+        arrayListEntryList = new ArrayList<>(size);
+        linkedList = new ElementAwareLinkedList<>();
+        linkedListEntryList = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            arrayListEntryList.add(arrayList.addEntry(i));
+            linkedListEntryList.add(linkedList.add(i));
+        }
+        random = new Random(0);
+    }
+
+    @Benchmark
+    public void arrayListRemoveAndAdd() {
+        var index = random.nextInt(size);
+        var entry = arrayListEntryList.get(index);
+        var element = entry.element();
+        entry.remove();
+        arrayListEntryList.set(index, arrayList.addEntry(element));
+    }
+
+    @Benchmark
+    public void linkedListRemoveAndAdd() {
+        var index = random.nextInt(size);
+        var entry = linkedListEntryList.get(index);
+        var element = entry.element();
+        linkedList.remove(entry);
+        linkedListEntryList.set(index, linkedList.add(element));
+    }
+
+    @Benchmark
+    public void arrayListForEach(Blackhole blackhole) {
+        arrayList.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void linkedListForEach(Blackhole blackhole) {
+        linkedList.forEach(blackhole::consume);
+    }
+
+}
@@ -0,0 +1,95 @@
+package ai.timefold.solver.microbenchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.bavet.bi.joiner.DefaultBiJoiner;
+import ai.timefold.solver.core.impl.bavet.common.index.Indexer;
+import ai.timefold.solver.core.impl.bavet.common.index.IndexerFactory;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the indexers behind joins and ifExists,
+ * both the modify operations which happen on every variable change
+ * and the queries which find the matching tuples on the other side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexerBenchmark {
+
+    private static final int KEY_COUNT = 1_000;
+
+    public enum JoinerKind {
+        EQUAL,
+        LESS_THAN,
+        EQUAL_AND_LESS_THAN
+    }
+
+    @Param
+    public JoinerKind joinerKind;
+    /**
+     * The number of tuples per key; with an equal joiner, also the size of the bucket.
+     */
+    @Param({ "1", "8", "64" })
+    public int tuplesPerKey;
+
+    private Indexer<UniTuple<Integer>> indexer;
+    private IndexerFactory.UniKeysExtractor<Integer> leftKeysExtractor;
+    private IndexerFactory.UniKeysExtractor<Integer> rightKeysExtractor;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Function<Integer, Integer> key = value -> value % KEY_COUNT;
+        var joiner = (DefaultBiJoiner<Integer, Integer>) switch (joinerKind) {
+            case EQUAL -> Joiners.equal(key, key);
+            case LESS_THAN -> Joiners.lessThan(key, key);
+            case EQUAL_AND_LESS_THAN -> Joiners.<Integer, Integer, Integer> equal(value -> value % 10, value -> value % 10)
+                    .and(Joiners.lessThan(key, key));
+        };
+        var indexerFactory = new IndexerFactory<>(joiner);
+        indexer = indexerFactory.buildIndexer(false);
+        leftKeysExtractor = indexerFactory.buildUniLeftKeysExtractor();
+        rightKeysExtractor = indexerFactory.buildRightKeysExtractor();
+        for (var i = 0; i < KEY_COUNT * tuplesPerKey; i++) {
+            var tuple = UniTuple.of(i, 0);
+            indexer.put(rightKeysExtractor.apply(tuple), tuple);
+        }
+        random = new Random(0);
+    }
+
+    @Benchmark
+    public void putAndRemove() {
+        var tuple = UniTuple.of(random.nextInt(KEY_COUNT), 0);
+        var compositeKey = rightKeysExtractor.apply(tuple);
+        var entry = indexer.put(compositeKey, tuple);
+        indexer.remove(compositeKey, entry);
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        var tuple = UniTuple.of(random.nextInt(KEY_COUNT), 0);
+        indexer.forEach(leftKeysExtractor.apply(tuple), blackhole::consume);
+    }
+
+}
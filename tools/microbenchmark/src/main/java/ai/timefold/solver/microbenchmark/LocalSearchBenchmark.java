@@ -0,0 +1,75 @@
+package ai.timefold.solver.microbenchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchType;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.microbenchmark.domain.Schedule;
+import ai.timefold.solver.microbenchmark.domain.ScheduleConstraintProvider;
+import ai.timefold.solver.microbenchmark.domain.ScheduleGenerator;
+import ai.timefold.solver.microbenchmark.domain.Shift;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the entire local search loop, including move selection, acceptance and foraging.
+ * One operation is one evaluated move,
+ * so that the {@code gc.alloc.rate.norm} reported by the GC profiler is the number of bytes allocated per evaluated move.
+ * The cost of building the solver and cloning the solution is spread over all moves of a solve.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalSearchBenchmark {
+
+    private static final int MOVE_COUNT = 100_000;
+
+    @Param({ "HILL_CLIMBING", "TABU_SEARCH", "LATE_ACCEPTANCE" })
+    public LocalSearchType localSearchType;
+    @Param({ "1000", "10000" })
+    public int shiftCount;
+
+    private SolverFactory<Schedule> solverFactory;
+    private Schedule problem;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var solverConfig = new SolverConfig()
+                .withSolutionClass(Schedule.class)
+                .withEntityClasses(Shift.class)
+                .withConstraintProviderClass(ScheduleConstraintProvider.class)
+                .withEnvironmentMode(EnvironmentMode.NO_ASSERT)
+                .withRandomSeed(0L)
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withLocalSearchType(localSearchType)
+                        .withTerminationConfig(new TerminationConfig().withMoveCountLimit((long) MOVE_COUNT)));
+        solverFactory = SolverFactory.create(solverConfig);
+        problem = ScheduleGenerator.generate(shiftCount, 0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVE_COUNT)
+    public Schedule solve() {
+        return solverFactory.buildSolver().solve(problem);
+    }
+
+}
@@ -0,0 +1,118 @@
+package ai.timefold.solver.microbenchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionOrder;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelectorFactory;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.impl.solver.ClassInstanceCache;
+import ai.timefold.solver.core.impl.solver.random.DefaultRandomSource;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.microbenchmark.domain.Schedule;
+import ai.timefold.solver.microbenchmark.domain.ScheduleConstraintProvider;
+import ai.timefold.solver.microbenchmark.domain.ScheduleGenerator;
+import ai.timefold.solver.microbenchmark.domain.Shift;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how quickly move selectors produce moves, without evaluating them.
+ * Each invocation starts a new step and takes as many moves as there are shifts,
+ * which is the typical number of moves evaluated per step with an accepted count limit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveSelectorBenchmark {
+
+    public enum MoveKind {
+        CHANGE,
+        SWAP
+    }
+
+    @Param
+    public MoveKind moveKind;
+    @Param({ "ORIGINAL", "RANDOM" })
+    public SelectionOrder selectionOrder;
+    @Param({ "1000", "10000" })
+    public int shiftCount;
+
+    private InnerScoreDirector<Schedule, HardSoftScore> scoreDirector;
+    private MoveSelector<Schedule> moveSelector;
+    private LocalSearchPhaseScope<Schedule> phaseScope;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var solutionDescriptor = SolutionDescriptor.buildSolutionDescriptor(Schedule.class, Shift.class);
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<Schedule, HardSoftScore>(solutionDescriptor,
+                new ScheduleConstraintProvider(ScheduleConstraintProvider.NodeKind.FILTER), EnvironmentMode.NO_ASSERT);
+        scoreDirector = scoreDirectorFactory.buildScoreDirector();
+        scoreDirector.setWorkingSolution(ScheduleGenerator.generate(shiftCount, 0));
+
+        var configPolicy = new HeuristicConfigPolicy.Builder<Schedule>()
+                .withEnvironmentMode(EnvironmentMode.NO_ASSERT)
+                .withRandom(DefaultRandomSource.seeded(0))
+                .withSolutionDescriptor(solutionDescriptor)
+                .withClassInstanceCache(ClassInstanceCache.create())
+                .build();
+        var moveSelectorConfig = switch (moveKind) {
+            case CHANGE -> new ChangeMoveSelectorConfig();
+            case SWAP -> new SwapMoveSelectorConfig();
+        };
+        moveSelector = MoveSelectorFactory.<Schedule> create(moveSelectorConfig)
+                .buildMoveSelector(configPolicy, SelectionCacheType.JUST_IN_TIME, selectionOrder, false);
+
+        var solverScope = new SolverScope<Schedule>();
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setWorkingRandom(DefaultRandomSource.seeded(0));
+        moveSelector.solvingStarted(solverScope);
+        phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        moveSelector.phaseStarted(phaseScope);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(phaseScope.getSolverScope());
+        scoreDirector.close();
+    }
+
+    @Benchmark
+    public void iterateMoves(Blackhole blackhole) {
+        var stepScope = new LocalSearchStepScope<>(phaseScope);
+        moveSelector.stepStarted(stepScope);
+        var iterator = moveSelector.iterator();
+        for (var i = 0; i < shiftCount && iterator.hasNext(); i++) {
+            blackhole.consume(iterator.next());
+        }
+        moveSelector.stepEnded(stepScope);
+    }
+
+}
@@ -0,0 +1,72 @@
+package ai.timefold.solver.microbenchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintFactory;
+import ai.timefold.solver.core.impl.score.stream.common.AbstractConstraint;
+import ai.timefold.solver.core.impl.score.stream.common.inliner.AbstractScoreInliner;
+import ai.timefold.solver.core.impl.score.stream.common.inliner.ConstraintMatchSupplier;
+import ai.timefold.solver.core.impl.score.stream.common.inliner.WeightedScoreImpacter;
+import ai.timefold.solver.microbenchmark.domain.Schedule;
+import ai.timefold.solver.microbenchmark.domain.Shift;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the score inliner in isolation, the last step of every constraint.
+ * A match weight of 1 is by far the most common, and some inliners have a fast path for it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreInlinerBenchmark {
+
+    @Param({ "1", "7" })
+    public int matchWeight;
+    @Param
+    public ConstraintMatchPolicy constraintMatchPolicy;
+
+    private AbstractScoreInliner<HardSoftScore> scoreInliner;
+    private WeightedScoreImpacter<HardSoftScore, ?> scoreImpacter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var solutionDescriptor = SolutionDescriptor.buildSolutionDescriptor(Schedule.class, Shift.class);
+        var constraintFactory = new BavetConstraintFactory<>(solutionDescriptor, EnvironmentMode.NO_ASSERT);
+        var constraint = (AbstractConstraint<?, ?, ?>) constraintFactory.forEach(Shift.class)
+                .penalize(HardSoftScore.ONE_SOFT)
+                .asConstraint("Benchmark constraint");
+        scoreInliner = AbstractScoreInliner.buildScoreInliner(solutionDescriptor.getScoreDefinition(),
+                Map.<Constraint, HardSoftScore> of(constraint, HardSoftScore.ONE_SOFT), constraintMatchPolicy);
+        scoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+    }
+
+    @Benchmark
+    public HardSoftScore impactAndUndo() {
+        var impact = scoreImpacter.impactScore(matchWeight, ConstraintMatchSupplier.empty());
+        var score = scoreInliner.extractScore();
+        impact.undo();
+        return score;
+    }
+
+}
@@ -0,0 +1,61 @@
+package ai.timefold.solver.microbenchmark;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
+import ai.timefold.solver.core.config.solver.PreviewFeature;
+import ai.timefold.solver.core.impl.domain.common.DomainAccessType;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.microbenchmark.domain.Schedule;
+import ai.timefold.solver.microbenchmark.domain.ScheduleGenerator;
+import ai.timefold.solver.microbenchmark.domain.Shift;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the reflection-based solution cloner with the Gizmo-generated one.
+ * Solutions are cloned whenever a new best solution is found.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolutionClonerBenchmark {
+
+    @Param({ "FORCE_REFLECTION", "FORCE_GIZMO" })
+    public DomainAccessType domainAccessType;
+    @Param({ "1000", "10000" })
+    public int shiftCount;
+
+    private SolutionCloner<Schedule> solutionCloner;
+    private Schedule schedule;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var solutionDescriptor = SolutionDescriptor.buildSolutionDescriptor(EnumSet.noneOf(PreviewFeature.class),
+                domainAccessType, Schedule.class, null, null, List.of(Shift.class));
+        solutionCloner = solutionDescriptor.getSolutionCloner();
+        schedule = ScheduleGenerator.generate(shiftCount, 0);
+    }
+
+    @Benchmark
+    public Schedule cloneSolution() {
+        return solutionCloner.cloneSolution(schedule);
+    }
+
+}
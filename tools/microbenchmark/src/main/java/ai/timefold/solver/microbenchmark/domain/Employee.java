@@ -0,0 +1,26 @@
+package ai.timefold.solver.microbenchmark.domain;
+
+public final class Employee {
+
+    private final int id;
+    private final int skill;
+
+    public Employee(int id, int skill) {
+        this.id = id;
+        this.skill = skill;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getSkill() {
+        return skill;
+    }
+
+    @Override
+    public String toString() {
+        return "Employee-" + id;
+    }
+
+}
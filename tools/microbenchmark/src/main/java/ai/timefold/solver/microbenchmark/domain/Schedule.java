@@ -0,0 +1,70 @@
+package ai.timefold.solver.microbenchmark.domain;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningScore;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
+import ai.timefold.solver.core.api.score.HardSoftScore;
+
+/**
+ * A deliberately small domain, so that the benchmarks measure the solver and not the domain.
+ */
+@PlanningSolution
+public final class Schedule {
+
+    private List<Employee> employeeList;
+    private List<Unavailability> unavailabilityList;
+    private List<Shift> shiftList;
+    private HardSoftScore score;
+
+    public Schedule() {
+        // Required for cloning.
+    }
+
+    public Schedule(List<Employee> employeeList, List<Unavailability> unavailabilityList, List<Shift> shiftList) {
+        this.employeeList = employeeList;
+        this.unavailabilityList = unavailabilityList;
+        this.shiftList = shiftList;
+    }
+
+    @ValueRangeProvider
+    @ProblemFactCollectionProperty
+    public List<Employee> getEmployeeList() {
+        return employeeList;
+    }
+
+    public void setEmployeeList(List<Employee> employeeList) {
+        this.employeeList = employeeList;
+    }
+
+    @ProblemFactCollectionProperty
+    public List<Unavailability> getUnavailabilityList() {
+        return unavailabilityList;
+    }
+
+    public void setUnavailabilityList(List<Unavailability> unavailabilityList) {
+        this.unavailabilityList = unavailabilityList;
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<Shift> getShiftList() {
+        return shiftList;
+    }
+
+    public void setShiftList(List<Shift> shiftList) {
+        this.shiftList = shiftList;
+    }
+
+    @PlanningScore
+    public HardSoftScore getScore() {
+        return score;
+    }
+
+    public void setScore(HardSoftScore score) {
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,89 @@
+package ai.timefold.solver.microbenchmark.domain;
+
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.count;
+
+import ai.timefold.solver.core.api.score.HardSoftScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+
+/**
+ * Each {@link NodeKind} results in constraints dominated by a single kind of node,
+ * so that a regression in one of them does not drown in the cost of the others.
+ */
+public final class ScheduleConstraintProvider implements ConstraintProvider {
+
+    public enum NodeKind {
+        FILTER,
+        JOIN,
+        GROUP_BY,
+        IF_EXISTS
+    }
+
+    private final NodeKind nodeKind;
+
+    /**
+     * Uses all constraints, the way a solver would.
+     */
+    public ScheduleConstraintProvider() {
+        this(null);
+    }
+
+    public ScheduleConstraintProvider(NodeKind nodeKind) {
+        this.nodeKind = nodeKind;
+    }
+
+    @Override
+    public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+        if (nodeKind == null) {
+            return new Constraint[] {
+                    requiredSkill(constraintFactory),
+                    oneShiftPerDay(constraintFactory),
+                    fairShiftCount(constraintFactory),
+                    unavailableEmployee(constraintFactory)
+            };
+        }
+        return switch (nodeKind) {
+            case FILTER -> new Constraint[] { requiredSkill(constraintFactory) };
+            case JOIN -> new Constraint[] { oneShiftPerDay(constraintFactory) };
+            case GROUP_BY -> new Constraint[] { fairShiftCount(constraintFactory) };
+            case IF_EXISTS -> new Constraint[] { unavailableEmployee(constraintFactory) };
+        };
+    }
+
+    private static Constraint requiredSkill(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Shift.class)
+                .filter(shift -> shift.getEmployee().getSkill() != shift.getRequiredSkill())
+                .penalize(HardSoftScore.ONE_HARD)
+                .asConstraint("Required skill");
+    }
+
+    private static Constraint oneShiftPerDay(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEachUniquePair(Shift.class,
+                Joiners.equal(Shift::getEmployee),
+                Joiners.equal(Shift::getDay))
+                .penalize(HardSoftScore.ONE_HARD)
+                .asConstraint("One shift per day");
+    }
+
+    private static Constraint fairShiftCount(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Shift.class)
+                .groupBy(Shift::getEmployee, count())
+                .filter((employee, shiftCount) -> shiftCount > ScheduleGenerator.SHIFTS_PER_EMPLOYEE)
+                .penalize(HardSoftScore.ONE_SOFT,
+                        (employee, shiftCount) -> (shiftCount - ScheduleGenerator.SHIFTS_PER_EMPLOYEE)
+                                * (shiftCount - ScheduleGenerator.SHIFTS_PER_EMPLOYEE))
+                .asConstraint("Fair shift count");
+    }
+
+    private static Constraint unavailableEmployee(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Shift.class)
+                .ifExists(Unavailability.class,
+                        Joiners.equal(Shift::getEmployee, Unavailability::employee),
+                        Joiners.equal(Shift::getDay, Unavailability::day))
+                .penalize(HardSoftScore.ONE_HARD)
+                .asConstraint("Unavailable employee");
+    }
+
+}
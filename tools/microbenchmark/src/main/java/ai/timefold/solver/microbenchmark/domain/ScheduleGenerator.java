@@ -0,0 +1,45 @@
+package ai.timefold.solver.microbenchmark.domain;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Generates a reproducible {@link Schedule} of a given size.
+ * The same seed and size always result in the same schedule,
+ * so that the results of different runs can be compared.
+ */
+public final class ScheduleGenerator {
+
+    /**
+     * The average number of shifts per employee,
+     * which determines the size of the buckets in equal joins and groupBys.
+     */
+    public static final int SHIFTS_PER_EMPLOYEE = 8;
+    private static final int DAY_COUNT = 28;
+    private static final int SKILL_COUNT = 5;
+
+    public static Schedule generate(int shiftCount, long seed) {
+        var random = new Random(seed);
+        var employeeCount = Math.max(1, shiftCount / SHIFTS_PER_EMPLOYEE);
+        var employeeList = new ArrayList<Employee>(employeeCount);
+        for (var i = 0; i < employeeCount; i++) {
+            employeeList.add(new Employee(i, random.nextInt(SKILL_COUNT)));
+        }
+        var unavailabilityList = new ArrayList<Unavailability>(employeeCount);
+        for (var employee : employeeList) {
+            unavailabilityList.add(new Unavailability(employee, random.nextInt(DAY_COUNT)));
+        }
+        var shiftList = new ArrayList<Shift>(shiftCount);
+        for (var i = 0; i < shiftCount; i++) {
+            var shift = new Shift(i, random.nextInt(DAY_COUNT), random.nextInt(SKILL_COUNT));
+            shift.setEmployee(employeeList.get(random.nextInt(employeeCount)));
+            shiftList.add(shift);
+        }
+        return new Schedule(employeeList, unavailabilityList, shiftList);
+    }
+
+    private ScheduleGenerator() {
+        // No external instances.
+    }
+
+}
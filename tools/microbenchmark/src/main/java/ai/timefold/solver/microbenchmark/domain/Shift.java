@@ -0,0 +1,64 @@
+package ai.timefold.solver.microbenchmark.domain;
+
+import ai.timefold.solver.core.api.domain.common.PlanningId;
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
+
+@PlanningEntity
+public final class Shift {
+
+    private int id;
+    private int day;
+    private int requiredSkill;
+    private Employee employee;
+
+    public Shift() {
+        // Required for cloning.
+    }
+
+    public Shift(int id, int day, int requiredSkill) {
+        this.id = id;
+        this.day = day;
+        this.requiredSkill = requiredSkill;
+    }
+
+    @PlanningId
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public void setDay(int day) {
+        this.day = day;
+    }
+
+    public int getRequiredSkill() {
+        return requiredSkill;
+    }
+
+    public void setRequiredSkill(int requiredSkill) {
+        this.requiredSkill = requiredSkill;
+    }
+
+    @PlanningVariable
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(Employee employee) {
+        this.employee = employee;
+    }
+
+    @Override
+    public String toString() {
+        return "Shift-" + id;
+    }
+
+}
@@ -0,0 +1,5 @@
+package ai.timefold.solver.microbenchmark.domain;
+
+public record Unavailability(Employee employee, int day) {
+
+}
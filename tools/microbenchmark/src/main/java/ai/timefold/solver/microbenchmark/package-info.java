@@ -0,0 +1,22 @@
+/**
+ * JMH microbenchmarks of the solver internals.
+ * <p>
+ * Build the module and its dependencies first,
+ * then run all benchmarks from the root of the repository:
+ *
+ * <pre>
+ * mvn -pl tools/microbenchmark -am install -DskipTests
+ * mvn -pl tools/microbenchmark exec:exec
+ * </pre>
+ *
+ * Any JMH options can be passed through the {@code jmh.args} property,
+ * for example {@code -Djmh.args="ConstraintStreamBenchmark -p nodeKind=JOIN -p shiftCount=10000"}
+ * to run a single benchmark with a single combination of parameters.
+ * By default, the GC profiler is enabled ({@code -prof gc}),
+ * so that allocation regressions show up in the results as {@code gc.alloc.rate.norm}, in bytes per operation.
+ * Add it to any custom {@code jmh.args} to keep it.
+ * <p>
+ * The datasets are generated by {@link ai.timefold.solver.microbenchmark.domain.ScheduleGenerator}
+ * from a fixed seed, so that the results of different runs and different versions can be compared.
+ */
+package ai.timefold.solver.microbenchmark;
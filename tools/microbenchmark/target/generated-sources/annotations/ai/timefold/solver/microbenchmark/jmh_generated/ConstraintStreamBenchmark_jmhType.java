@@ -0,0 +1,4 @@
+package ai.timefold.solver.microbenchmark.jmh_generated;
+public class ConstraintStreamBenchmark_jmhType extends ConstraintStreamBenchmark_jmhType_B3 {
+}
+
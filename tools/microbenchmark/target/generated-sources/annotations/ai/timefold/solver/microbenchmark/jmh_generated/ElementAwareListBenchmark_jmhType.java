@@ -0,0 +1,4 @@
+package ai.timefold.solver.microbenchmark.jmh_generated;
+public class ElementAwareListBenchmark_jmhType extends ElementAwareListBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package ai.timefold.solver.microbenchmark.jmh_generated;
+public class IndexerBenchmark_jmhType extends IndexerBenchmark_jmhType_B3 {
+}
+
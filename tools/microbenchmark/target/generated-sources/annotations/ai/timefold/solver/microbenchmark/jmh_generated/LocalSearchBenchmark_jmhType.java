@@ -0,0 +1,4 @@
+package ai.timefold.solver.microbenchmark.jmh_generated;
+public class LocalSearchBenchmark_jmhType extends LocalSearchBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package ai.timefold.solver.microbenchmark.jmh_generated;
+public class MoveSelectorBenchmark_jmhType extends MoveSelectorBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package ai.timefold.solver.microbenchmark.jmh_generated;
+public class ScoreInlinerBenchmark_jmhType extends ScoreInlinerBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package ai.timefold.solver.microbenchmark.jmh_generated;
+public class SolutionClonerBenchmark_jmhType extends SolutionClonerBenchmark_jmhType_B3 {
+}
+